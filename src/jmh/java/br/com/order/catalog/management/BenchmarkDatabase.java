@@ -0,0 +1,28 @@
+package br.com.order.catalog.management;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Connection to the Postgres the database benchmarks run against. Settings come from the
+ * {@code BENCH_JDBC_URL}, {@code BENCH_JDBC_USER} and {@code BENCH_JDBC_PASSWORD} environment
+ * variables, which the forked benchmark JVMs inherit, and default to the application's database.
+ */
+public final class BenchmarkDatabase {
+
+  private BenchmarkDatabase() {
+  }
+
+  public static Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        env("BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/order-catalog-management"),
+        env("BENCH_JDBC_USER", "postgres"),
+        env("BENCH_JDBC_PASSWORD", "root"));
+  }
+
+  private static String env(final String name, final String defaultValue) {
+    final var value = System.getenv(name);
+    return value != null ? value : defaultValue;
+  }
+}
@@ -0,0 +1,74 @@
+package br.com.order.catalog.management.domain;
+
+import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.OrderItem;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.product.Product;
+import br.com.order.catalog.management.domain.product.ProductType;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures order construction and total calculation for orders of growing size.
+ *
+ * <p>{@code calculateTotal}/{@code calculateDiscount} are private, so they are measured through
+ * {@link Order#update}, which does nothing but recalculate and validate. Run with the {@code gc}
+ * profiler (the default of the {@code jmh} profile) to get the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBenchmark {
+
+  @Param({"1", "10", "100", "10000"})
+  private int itemCount;
+
+  private Set<OrderItem> items;
+
+  private Order order;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final var random = new SplittableRandom(42);
+    items = new HashSet<>(itemCount * 2);
+    for (int i = 0; i < itemCount; i++) {
+      final var type = i % 3 == 0 ? ProductType.SERVICE : ProductType.PRODUCT;
+      final var price = Money.ofCents(random.nextLong(1, 1_000_000));
+      final var product = Product.newProduct("product-" + i, price, type, true);
+      items.add(OrderItem.newOrderItem(product, random.nextInt(1, 50)));
+    }
+    order = Order.newOrder(OrderStatus.OPEN, items, 10);
+  }
+
+  @Benchmark
+  public Order newOrder() {
+    return Order.newOrder(OrderStatus.OPEN, items, 10);
+  }
+
+  @Benchmark
+  public Order newClosedOrder() {
+    return Order.newOrder(OrderStatus.CLOSED, items, 10);
+  }
+
+  @Benchmark
+  public Order update() {
+    return order.update(OrderStatus.OPEN, items, 15);
+  }
+}
@@ -0,0 +1,40 @@
+package br.com.order.catalog.management.domain.identifier;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Id generation throughput under concurrent creates: {@link UUID#randomUUID()} shares one
+ * {@code SecureRandom}, {@link UuidV7Generator} only a CAS on its timestamp/sequence word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+  private final IdGenerator uuidV7 = UuidV7Generator.getInstance();
+
+  @Benchmark
+  public UUID uuidV4() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID uuidV7() {
+    return uuidV7.nextId();
+  }
+}
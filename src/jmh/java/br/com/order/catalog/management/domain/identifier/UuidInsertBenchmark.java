@@ -0,0 +1,94 @@
+package br.com.order.catalog.management.domain.identifier;
+
+import br.com.order.catalog.management.BenchmarkDatabase;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insert throughput into a UUID primary key with random (v4) and time-ordered (v7) ids, against a
+ * local Postgres. The size of the primary key index and its average leaf density are printed at
+ * the end of each trial.
+ *
+ * <p>Runs against {@link BenchmarkDatabase} on its own {@code uuid_insert_benchmark} table,
+ * dropped afterwards, and needs the {@code pgstattuple} extension to be available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+  private static final int BATCH_SIZE = 1_000;
+
+  private static final String TABLE = "uuid_insert_benchmark";
+
+  @Param({"V4", "V7"})
+  private String version;
+
+  private Connection connection;
+
+  private Supplier<UUID> ids;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = BenchmarkDatabase.connect();
+    connection.setAutoCommit(false);
+    try (var statement = connection.createStatement()) {
+      statement.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute("CREATE TABLE " + TABLE
+          + " (id UUID PRIMARY KEY, created_at TIMESTAMP NOT NULL DEFAULT now())");
+    }
+    connection.commit();
+    ids = "V7".equals(version) ? UuidV7Generator.getInstance()::nextId : UUID::randomUUID;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void insert() throws SQLException {
+    try (var statement = connection.prepareStatement("INSERT INTO " + TABLE + " (id) VALUES (?)")) {
+      for (int i = 0; i < BATCH_SIZE; i++) {
+        statement.setObject(1, ids.get());
+        statement.addBatch();
+      }
+      statement.executeBatch();
+    }
+    connection.commit();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (var statement = connection.createStatement();
+        var result = statement.executeQuery("SELECT count(*), "
+            + "pg_relation_size('" + TABLE + "_pkey'), "
+            + "(pgstatindex('" + TABLE + "_pkey')).avg_leaf_density FROM " + TABLE)) {
+      result.next();
+      System.out.printf("%n%s: %d rows, primary key index %d bytes, avg leaf density %.1f%%%n",
+          version, result.getLong(1), result.getLong(2), result.getDouble(3));
+    }
+    try (var statement = connection.createStatement()) {
+      statement.execute("DROP TABLE " + TABLE);
+    }
+    connection.commit();
+    connection.close();
+  }
+}
@@ -0,0 +1,105 @@
+package br.com.order.catalog.management.specification;
+
+import br.com.order.catalog.management.BenchmarkDatabase;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of the product name search ({@code lower(name) LIKE '%term%'}, as built by
+ * {@link ProductSpecification}) over 1M products, without and with the {@code pg_trgm} GIN
+ * index of migration V1.0.5.
+ *
+ * <p>Runs against {@link BenchmarkDatabase} on its own {@code product_search_benchmark} table,
+ * dropped afterwards. The plan of the query is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductNameSearchBenchmark {
+
+  private static final String TABLE = "product_search_benchmark";
+
+  private static final String QUERY = "SELECT id, name, price, type, active FROM " + TABLE
+      + " WHERE lower(name) LIKE ? ESCAPE '\\' LIMIT 20";
+
+  @Param({"1000000"})
+  private int rows;
+
+  @Param({"none", "trigram"})
+  private String index;
+
+  @Param({"%keyboard 4217%", "%zz-not-there%"})
+  private String pattern;
+
+  private Connection connection;
+
+  private PreparedStatement search;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = BenchmarkDatabase.connect();
+    try (var statement = connection.createStatement()) {
+      statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+      statement.execute("DROP TABLE IF EXISTS " + TABLE);
+      statement.execute("CREATE TABLE " + TABLE + " (LIKE products INCLUDING DEFAULTS)");
+      statement.execute("INSERT INTO " + TABLE + " (id, name, price, type, active) "
+          + "SELECT gen_random_uuid(), "
+          + "(ARRAY['Keyboard', 'Mouse', 'Monitor', 'Cable', 'Support'])[1 + i % 5] || ' ' || i, "
+          + "1 + i % 1000, CASE WHEN i % 3 = 0 THEN 'SERVICE' ELSE 'PRODUCT' END, true "
+          + "FROM generate_series(1, " + rows + ") AS i");
+      if ("trigram".equals(index)) {
+        statement.execute("CREATE INDEX ON " + TABLE + " USING gin (lower(name) gin_trgm_ops)");
+      }
+      statement.execute("ANALYZE " + TABLE);
+    }
+    search = connection.prepareStatement(QUERY);
+    search.setString(1, pattern);
+    try (var explain = connection.prepareStatement("EXPLAIN " + QUERY)) {
+      explain.setString(1, pattern);
+      try (var plan = explain.executeQuery()) {
+        System.out.printf("%n%s, %s:%n", index, pattern);
+        while (plan.next()) {
+          System.out.println("  " + plan.getString(1));
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public int search() throws SQLException {
+    var found = 0;
+    try (var result = search.executeQuery()) {
+      while (result.next()) {
+        found++;
+      }
+    }
+    return found;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    search.close();
+    try (var statement = connection.createStatement()) {
+      statement.execute("DROP TABLE " + TABLE);
+    }
+    connection.close();
+  }
+}
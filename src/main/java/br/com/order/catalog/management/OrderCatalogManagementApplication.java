@@ -2,8 +2,10 @@ package br.com.order.catalog.management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class OrderCatalogManagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,75 @@
+package br.com.order.catalog.management.cache;
+
+import br.com.order.catalog.management.domain.order.Order;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process map of the orders created for an {@code Idempotency-Key}, which collapses
+ * concurrent requests with the same key into a single flight.
+ *
+ * <p>The first request for a key creates the order on its own thread; the others wait for it
+ * instead of creating the order again, and get the same order or fail like it. A failed creation
+ * is not kept, so a later retry tries again. Size and expiration come from a Caffeine spec
+ * ({@code catalog.cache.idempotency.spec}); past it, the durable keys of the database answer.
+ * Like {@link ProductCache}, callers get copies, and the Micrometer {@code cache.*} meters are
+ * tagged {@code cache=idempotency}.
+ */
+@Component
+public class IdempotencyCache implements MeterBinder {
+
+  static final String NAME = "idempotency";
+
+  private final AsyncCache<String, Order> cache;
+
+  public IdempotencyCache(
+      @Value("${catalog.cache.idempotency.spec:maximumSize=10000,expireAfterWrite=10m}") String spec) {
+    this.cache = Caffeine.from(spec).recordStats().buildAsync();
+  }
+
+  /**
+   * Order created for {@code key}, calling {@code create} only when no request with the same key
+   * has created it or is creating it. {@code create} must have committed the order by the time it
+   * returns, since waiting requests are answered with it right away.
+   */
+  public Order get(String key, Function<String, Order> create) {
+    final var created = new CompletableFuture<Order>();
+    final var order = cache.get(key, (ignored, executor) -> created);
+    if (order != created) {
+      return join(order).copy();
+    }
+
+    try {
+      created.complete(create.apply(key).copy());
+    } catch (RuntimeException ex) {
+      created.completeExceptionally(ex);
+      throw ex;
+    }
+    return created.join().copy();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, NAME);
+  }
+
+  private static Order join(CompletableFuture<Order> order) {
+    try {
+      return order.join();
+    } catch (CompletionException ex) {
+      // the failure of the request that was creating the order
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+}
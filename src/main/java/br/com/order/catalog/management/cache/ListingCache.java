@@ -0,0 +1,121 @@
+package br.com.order.catalog.management.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded in-process cache of listing pages keyed by their normalized filter and pageable.
+ *
+ * <p>Every table has a generation counter that writes bump, and a page is cached under the sum of
+ * the generations of the tables its listing reads. A write therefore makes every stale page of
+ * the listings reading that table unreachable in O(1), without scanning keys; those pages are left
+ * for the size bound and the expiration to evict. Like {@link ProductCache}, callers get copies of
+ * the cached content. The Micrometer {@code cache.*} meters tagged {@code cache=listings} include
+ * a {@code cache.hit.ratio} gauge.
+ */
+@Component
+public class ListingCache implements MeterBinder {
+
+  static final String NAME = "listings";
+
+  public enum Table {
+    ORDERS, PRODUCTS
+  }
+
+  public enum Listing {
+    /**
+     * Orders are listed with their items and products.
+     */
+    ORDERS(Table.ORDERS, Table.PRODUCTS),
+    PRODUCTS(Table.PRODUCTS);
+
+    private final Table[] tables;
+
+    Listing(Table... tables) {
+      this.tables = tables;
+    }
+  }
+
+  private record Key(Listing listing, long generation, Object filter, Pageable pageable) {
+
+  }
+
+  private final Cache<Key, Page<?>> cache;
+
+  private final Map<Table, AtomicLong> generations = new EnumMap<>(Table.class);
+
+  public ListingCache(
+      @Value("${catalog.cache.listings.spec:maximumSize=1000,expireAfterWrite=1m}") String spec) {
+    this.cache = Caffeine.from(spec).recordStats().build();
+    for (final Table table : Table.values()) {
+      generations.put(table, new AtomicLong());
+    }
+  }
+
+  /**
+   * Page of {@code listing} for {@code filter}, which must be a value with equals and hashCode
+   * such as {@code ProductFilter.Key}; {@code copy} detaches every element handed out.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Page<T> get(Listing listing, Object filter, Pageable pageable,
+      Supplier<Page<T>> loader, Function<T, T> copy) {
+    // read before loading, so a page loaded while a write commits is stored as already stale
+    final var key = new Key(listing, generationOf(listing), filter, pageable);
+    final var page = (Page<T>) cache.get(key, ignored -> loader.get());
+    return page.map(copy);
+  }
+
+  /**
+   * Makes the pages of every listing reading {@code table} unreachable now and, when called
+   * inside a transaction, again once it completes, so a read racing with the transaction cannot
+   * cache the previous state under the current generation.
+   */
+  public void invalidate(Table table) {
+    final var generation = generations.get(table);
+    generation.incrementAndGet();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          generation.incrementAndGet();
+        }
+      });
+    }
+  }
+
+  public double hitRatio() {
+    return cache.stats().hitRate();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, NAME);
+    Gauge.builder("cache.hit.ratio", this, ListingCache::hitRatio)
+        .tag("cache", NAME)
+        .description("Ratio of listing lookups served from the cache")
+        .register(registry);
+  }
+
+  private long generationOf(Listing listing) {
+    long generation = 0L;
+    for (final Table table : listing.tables) {
+      generation += generations.get(table).get();
+    }
+    return generation;
+  }
+}
@@ -0,0 +1,90 @@
+package br.com.order.catalog.management.cache;
+
+import br.com.order.catalog.management.domain.product.Product;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded in-process cache of {@link Product} snapshots keyed by id.
+ *
+ * <p>Size and expiration come from a Caffeine spec ({@code catalog.cache.products.spec}). Cached
+ * products are never handed out: callers get copies, so changing a product read from the cache
+ * cannot change the cache. Hits, misses, evictions and size are published as the Micrometer
+ * {@code cache.*} meters tagged {@code cache=products}.
+ */
+@Component
+public class ProductCache implements MeterBinder {
+
+  static final String NAME = "products";
+
+  private final Cache<UUID, Product> cache;
+
+  public ProductCache(
+      @Value("${catalog.cache.products.spec:maximumSize=10000,expireAfterWrite=5m}") String spec) {
+    this.cache = Caffeine.from(spec).recordStats().build();
+  }
+
+  public Product get(UUID id, Function<UUID, Product> loader) {
+    return cache.get(id, loader).copy();
+  }
+
+  /**
+   * Products of {@code ids} that exist; {@code loader} is called once with the ids the cache
+   * does not hold and returns the products it found by id.
+   */
+  public Set<Product> getAll(Set<UUID> ids,
+      Function<Set<? extends UUID>, Map<UUID, Product>> loader) {
+    final var products = new HashSet<Product>();
+    cache.getAll(ids, loader).values().forEach(product -> products.add(product.copy()));
+    return products;
+  }
+
+  /**
+   * Drops {@code id} now and, when called inside a transaction, again once it completes, so a
+   * read racing with the transaction cannot leave the previous state cached.
+   */
+  public void invalidate(UUID id) {
+    cache.invalidate(id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          cache.invalidate(id);
+        }
+      });
+    }
+  }
+
+  /**
+   * Drops every product, now and once the current transaction completes, like
+   * {@link #invalidate(UUID)}.
+   */
+  public void invalidateAll() {
+    cache.invalidateAll();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          cache.invalidateAll();
+        }
+      });
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, NAME);
+  }
+}
@@ -0,0 +1,89 @@
+package br.com.order.catalog.management.controller;
+
+import br.com.order.catalog.management.domain.Revision;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
+import br.com.order.catalog.management.service.ExpectedVersion;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Strong entity tags derived from the persisted {@link Revision} of a resource: its version, which
+ * {@code If-Match} is mapped onto for conditional writes, then its last modification.
+ */
+public final class EntityTags {
+
+  private static final String SEPARATOR = "-";
+
+  private EntityTags() {
+  }
+
+  public static String of(Revision revision) {
+    return "\"" + token(revision) + "\"";
+  }
+
+  /**
+   * Tag of an alternative representation of the same resource state, which must not share the
+   * strong tag of the default one.
+   */
+  public static String of(Revision revision, String variant) {
+    Objects.requireNonNull(variant, "'variant' should not be null");
+    return "\"" + token(revision) + SEPARATOR + variant + "\"";
+  }
+
+  /**
+   * Version named by an {@code If-Match} header, or null when there is none or it is {@code *}.
+   * Several tags must name the same version, like the variants of one state do, since a write
+   * compares with a single version; a weak or unknown tag never matches.
+   */
+  public static Long versionOf(String ifMatch) {
+    if (Objects.isNull(ifMatch) || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+      return null;
+    }
+    Long version = null;
+    for (final var tag : ifMatch.split(",")) {
+      final var tagVersion = parseVersion(tag.trim());
+      if (Objects.nonNull(version) && version != tagVersion) {
+        throw new PreconditionFailedException("If-Match names more than one version");
+      }
+      version = tagVersion;
+    }
+    return version;
+  }
+
+  /**
+   * Version a write expects from {@code bodyVersion} and the {@code If-Match} of
+   * {@code webRequest}, for the write itself to enforce.
+   */
+  public static ExpectedVersion expectedVersion(Long bodyVersion, WebRequest webRequest) {
+    return new ExpectedVersion(bodyVersion, versionOf(webRequest.getHeader(HttpHeaders.IF_MATCH)));
+  }
+
+  private static long parseVersion(String tag) {
+    if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+      throw unknownTag(tag);
+    }
+    final var token = tag.substring(1, tag.length() - 1);
+    final var separator = token.indexOf(SEPARATOR);
+    try {
+      return Long.parseLong(separator < 0 ? token : token.substring(0, separator));
+    } catch (NumberFormatException ex) {
+      throw unknownTag(tag);
+    }
+  }
+
+  private static PreconditionFailedException unknownTag(String tag) {
+    return new PreconditionFailedException("If-Match tag is not a version of this resource: " + tag);
+  }
+
+  private static String token(Revision revision) {
+    return revision.version() + SEPARATOR + hexMicros(revision.lastModified());
+  }
+
+  private static String hexMicros(Instant lastModified) {
+    Objects.requireNonNull(lastModified, "'lastModified' should not be null");
+    return Long.toHexString(ChronoUnit.MICROS.between(Instant.EPOCH, lastModified));
+  }
+}
@@ -0,0 +1,69 @@
+package br.com.order.catalog.management.controller;
+
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * Links of a collection resource and of its items, built from URI templates parsed once.
+ *
+ * <p>{@code WebMvcLinkBuilder.methodOn} proxies the controller and reflects over its mappings for
+ * every link; here only the base URI of the current request is resolved and the item template is
+ * expanded with nothing but the id.
+ */
+public final class ResourceLinks {
+
+  private final String collectionPath;
+
+  private final UriTemplate itemTemplate;
+
+  private ResourceLinks(String collectionPath) {
+    this.collectionPath = collectionPath;
+    this.itemTemplate = new UriTemplate(collectionPath + "/{id}");
+  }
+
+  public static ResourceLinks of(String collectionPath) {
+    Objects.requireNonNull(collectionPath, "'collectionPath' should not be null");
+    return new ResourceLinks(collectionPath);
+  }
+
+  /**
+   * Adds {@code self} and every one of {@code rels} pointing at the item {@code id}.
+   */
+  public <T extends RepresentationModel<? extends T>> T addItemLinks(T model, UUID id,
+      String... rels) {
+    final var href = baseUri() + itemTemplate.expand(id);
+    model.add(Link.of(href, IanaLinkRelations.SELF));
+    for (final String rel : rels) {
+      model.add(Link.of(href, rel));
+    }
+    return model;
+  }
+
+  /**
+   * Adds a {@code self} link pointing at the collection.
+   */
+  public <T extends RepresentationModel<? extends T>> T addCollectionLink(T model) {
+    model.add(Link.of(baseUri() + collectionPath, IanaLinkRelations.SELF));
+    return model;
+  }
+
+  /**
+   * Link to the collection; {@code queryTemplate} like {@code {?name,type}} lists its filters.
+   */
+  public Link collection(String queryTemplate, String rel) {
+    return Link.of(baseUri() + collectionPath + queryTemplate, rel);
+  }
+
+  private static String baseUri() {
+    if (Objects.isNull(RequestContextHolder.getRequestAttributes())) {
+      return "";
+    }
+    return ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+  }
+}
@@ -0,0 +1,21 @@
+package br.com.order.catalog.management.controller;
+
+import jakarta.validation.ConstraintViolation;
+import java.util.Set;
+
+/**
+ * Messages for requests validated by hand, such as the elements of a batch, worded like the
+ * ones the exception handler gives for a request body.
+ */
+public final class ValidationMessages {
+
+  private ValidationMessages() {
+  }
+
+  public static String of(Set<? extends ConstraintViolation<?>> violations) {
+    final var message = new StringBuilder("Validation failed for fields: ");
+    violations.forEach(violation -> message.append(
+        String.format("[%s: %s] ", violation.getPropertyPath(), violation.getMessage())));
+    return message.toString();
+  }
+}
@@ -1,62 +1,112 @@
 package br.com.order.catalog.management.controller.order;
 
+import br.com.order.catalog.management.cache.IdempotencyCache;
+import br.com.order.catalog.management.controller.EntityTags;
+import br.com.order.catalog.management.controller.ResourceLinks;
+import br.com.order.catalog.management.controller.ValidationMessages;
+import br.com.order.catalog.management.controller.order.model.BatchCreateOrderResponse;
 import br.com.order.catalog.management.controller.order.model.CreateOrderRequest;
 import br.com.order.catalog.management.controller.order.model.OrderResponse;
+import br.com.order.catalog.management.controller.order.model.PatchOrderRequest;
 import br.com.order.catalog.management.controller.order.model.UpdateOrderRequest;
+import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.OrderPatch;
+import br.com.order.catalog.management.exceptions.BatchTooLargeException;
+import br.com.order.catalog.management.exceptions.InvalidPatchException;
 import br.com.order.catalog.management.mapper.OrderMapper;
 import br.com.order.catalog.management.mapper.PreOrderMapper;
+import br.com.order.catalog.management.pagination.CursorCodec;
+import br.com.order.catalog.management.pagination.CursorPage;
+import br.com.order.catalog.management.pagination.SlicePage;
+import br.com.order.catalog.management.service.BatchResult;
+import br.com.order.catalog.management.service.OrderIntake;
 import br.com.order.catalog.management.service.OrderService;
 
 import br.com.order.catalog.management.specification.filter.OrderFilter;
 
-import org.springframework.hateoas.Link;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import org.springframework.hateoas.EntityModel;
 
+import jakarta.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
 public class DefaultOrderController implements OrderController {
 
+  private static final ResourceLinks LINKS = ResourceLinks.of(PATH);
+
+  private static final String LEAN = "lean";
+
+  private static final String STATUS = "status";
+
+  private static final String DISCOUNT = "discount";
+
+  private static final Set<String> PATCHABLE_FIELDS = Set.of(STATUS, DISCOUNT, "version");
+
   private final OrderService orderService;
 
   private final OrderMapper orderMapper;
 
   private final PreOrderMapper preOrderMapper;
 
+  private final Validator validator;
+
+  private final IdempotencyCache idempotencyCache;
+
+  private final OrderIntake orderIntake;
+
+  private final ObjectMapper objectMapper;
+
   public DefaultOrderController(OrderService orderService, OrderMapper orderMapper,
-      PreOrderMapper preOrderMapper) {
+      PreOrderMapper preOrderMapper, Validator validator, IdempotencyCache idempotencyCache,
+      OrderIntake orderIntake, ObjectMapper objectMapper) {
     this.orderService = orderService;
     this.orderMapper = orderMapper;
     this.preOrderMapper = preOrderMapper;
+    this.validator = validator;
+    this.idempotencyCache = idempotencyCache;
+    this.orderIntake = orderIntake;
+    this.objectMapper = objectMapper;
   }
 
-  public EntityModel<OrderResponse> findById(UUID id) {
+  public ResponseEntity<EntityModel<OrderResponse>> findById(UUID id, WebRequest webRequest) {
+    final var eTag = EntityTags.of(orderService.getOrderRevision(id));
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
     final var order = orderService.getOrderById(id);
-    final var resource = EntityModel.of(orderMapper.toResponse(order));
-
-    Link selfLink = WebMvcLinkBuilder.linkTo(
-        WebMvcLinkBuilder.methodOn(OrderController.class).findById(id)).withSelfRel();
-    resource.add(selfLink);
-
-    resource.add(WebMvcLinkBuilder.linkTo(
-            WebMvcLinkBuilder.methodOn(OrderController.class).update(id,
-                new UpdateOrderRequest(order.getStatus(),
-                    order.getItems().stream().map(preOrderMapper::toPreOrderItem).toList(),
-                    order.getDiscount())))
-        .withRel("update"));
-    resource.add(
-        WebMvcLinkBuilder.linkTo(WebMvcLinkBuilder.methodOn(OrderController.class).deleteById(id))
-            .withRel("delete"));
-
-    return resource;
+    final var resource = LINKS.addItemLinks(EntityModel.of(orderMapper.toResponse(order)), id,
+        "update", "delete");
+
+    return ResponseEntity.ok().eTag(eTag).body(resource);
+  }
+
+  public ResponseEntity<OrderResponse> findLeanById(UUID id, WebRequest webRequest) {
+    final var eTag = EntityTags.of(orderService.getOrderRevision(id), LEAN);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    return ResponseEntity.ok().eTag(eTag).body(orderMapper.toResponse(orderService.getOrderById(id)));
   }
 
   public Page<OrderResponse> findAll(Pageable pageable, String status) {
@@ -64,32 +114,122 @@ public class DefaultOrderController implements OrderController {
     return pageOrder.map(orderMapper::toResponse);
   }
 
-  public EntityModel<OrderResponse> create(CreateOrderRequest request) {
+  public SlicePage<OrderResponse> findSlice(Pageable pageable, String status,
+      boolean approximateTotal) {
+    final var filter = new OrderFilter(status);
+    final var slice = orderService.getOrderSlice(pageable, filter).map(orderMapper::toResponse);
+    return SlicePage.of(slice,
+        approximateTotal ? orderService.estimateOrderCount(filter) : OptionalLong.empty());
+  }
 
-    final var order = orderService.createOrder(preOrderMapper.toDomain(request));
+  public CursorPage<OrderResponse> scroll(String cursor, int size, String sort, String status) {
+    final var position = Objects.isNull(cursor)
+        ? CursorCodec.ORDERS.first(sort)
+        : CursorCodec.ORDERS.decode(cursor);
+    final var window = orderService.scrollOrders(position.sort(), position.position(),
+        CursorCodec.windowSize(size), new OrderFilter(status));
+    return CursorCodec.ORDERS.toPage(window.map(orderMapper::toResponse), position.sort());
+  }
 
-    final var resource = EntityModel.of(orderMapper.toResponse(order));
+  public EntityModel<OrderResponse> create(CreateOrderRequest request, String idempotencyKey) {
+    final var preOrder = preOrderMapper.toDomain(request);
 
-    Link selfLink = WebMvcLinkBuilder.linkTo(
-        WebMvcLinkBuilder.methodOn(OrderController.class).create(request)).withSelfRel();
-    resource.add(selfLink);
+    // retries with the same key, concurrent ones included, get the order created by the first
+    final var order = Objects.isNull(idempotencyKey)
+        ? orderIntake.createOrder(preOrder)
+        : idempotencyCache.get(idempotencyKey, key -> orderService.createOrder(preOrder, key));
 
-    return resource;
+    return LINKS.addCollectionLink(EntityModel.of(orderMapper.toResponse(order)));
   }
 
-  public EntityModel<OrderResponse> update(UUID id, UpdateOrderRequest request) {
-    final var order = orderService.updateOrder(id, preOrderMapper.toDomain(request));
-    final var resource = EntityModel.of(orderMapper.toResponse(order));
+  public BatchCreateOrderResponse createBatch(List<CreateOrderRequest> requests) {
+    if (requests.size() > MAX_BATCH_SIZE) {
+      throw new BatchTooLargeException(
+          "A batch must have at most " + MAX_BATCH_SIZE + " orders, got " + requests.size());
+    }
+
+    // invalid requests are answered here; only the valid ones reach the service
+    final var errors = new String[requests.size()];
+    final var validRequests = new ArrayList<CreateOrderRequest>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      final var request = requests.get(i);
+      if (Objects.isNull(request)) {
+        errors[i] = "Order is required";
+        continue;
+      }
+      final var violations = validator.validate(request);
+      if (violations.isEmpty()) {
+        validRequests.add(request);
+      } else {
+        errors[i] = ValidationMessages.of(violations);
+      }
+    }
+
+    final var created = orderService.createOrders(
+        validRequests.stream().map(preOrderMapper::toDomain).toList()).iterator();
+    final var results = new ArrayList<BatchCreateOrderResponse.Result>(requests.size());
+    int failed = 0;
+    for (int i = 0; i < requests.size(); i++) {
+      final var result = Objects.isNull(errors[i]) ? created.next() : BatchResult.<Order>failed(errors[i]);
+      if (result.isFailed()) {
+        failed++;
+        results.add(new BatchCreateOrderResponse.Result(i, null, result.error()));
+      } else {
+        results.add(new BatchCreateOrderResponse.Result(i,
+            orderMapper.toResponse(result.value()), null));
+      }
+    }
+    return new BatchCreateOrderResponse(requests.size() - failed, failed, results);
+  }
+
+  public ResponseEntity<EntityModel<OrderResponse>> update(UUID id, UpdateOrderRequest request,
+      WebRequest webRequest) {
+    // If-Match is checked by the versioned update itself, and the tag is the one it wrote
+    final var order = orderService.updateOrder(id, preOrderMapper.toDomain(request),
+        EntityTags.expectedVersion(request.version(), webRequest));
+    final var resource = LINKS.addItemLinks(EntityModel.of(orderMapper.toResponse(order)), id);
 
-    Link selfLink = WebMvcLinkBuilder.linkTo(
-        WebMvcLinkBuilder.methodOn(OrderController.class).update(id, request)).withSelfRel();
-    resource.add(selfLink);
+    return ResponseEntity.ok().eTag(EntityTags.of(order.revision())).body(resource);
+  }
 
-    return resource;
+  public ResponseEntity<EntityModel<OrderResponse>> patch(UUID id, ObjectNode body,
+      WebRequest webRequest) {
+    final var request = readPatch(body);
+    // merge patch: an absent field is kept, and a null one removed, which the status cannot be
+    final var patch = new OrderPatch(request.status(), body.has(DISCOUNT), request.discount());
+    // If-Match is checked by the versioned update itself, and the tag is the one it wrote
+    final var order = orderService.patchOrder(id, patch,
+        EntityTags.expectedVersion(request.version(), webRequest));
+    final var resource = LINKS.addItemLinks(EntityModel.of(orderMapper.toResponse(order)), id);
+
+    return ResponseEntity.ok().eTag(EntityTags.of(order.revision())).body(resource);
   }
 
   public ResponseEntity<Void> deleteById(@PathVariable("id") UUID id) {
     orderService.deleteOrderById(id);
     return ResponseEntity.noContent().build();
   }
+
+  private PatchOrderRequest readPatch(ObjectNode body) {
+    body.fieldNames().forEachRemaining(field -> {
+      if (!PATCHABLE_FIELDS.contains(field)) {
+        throw new InvalidPatchException("Field cannot be patched: " + field);
+      }
+    });
+    if (body.has(STATUS) && body.get(STATUS).isNull()) {
+      throw new InvalidPatchException("Status cannot be removed");
+    }
+
+    final PatchOrderRequest request;
+    try {
+      request = objectMapper.treeToValue(body, PatchOrderRequest.class);
+    } catch (JsonProcessingException ex) {
+      throw new InvalidPatchException("Invalid patch: " + ex.getOriginalMessage());
+    }
+    final var violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      throw new InvalidPatchException(ValidationMessages.of(violations));
+    }
+    return request;
+  }
 }
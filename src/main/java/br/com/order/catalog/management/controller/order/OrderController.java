@@ -1,9 +1,14 @@
 package br.com.order.catalog.management.controller.order;
 
+import br.com.order.catalog.management.controller.order.model.BatchCreateOrderResponse;
 import br.com.order.catalog.management.controller.order.model.CreateOrderRequest;
 import br.com.order.catalog.management.controller.order.model.OrderResponse;
+import br.com.order.catalog.management.controller.order.model.PatchOrderRequest;
 import br.com.order.catalog.management.controller.order.model.UpdateOrderRequest;
 import br.com.order.catalog.management.controller.product.model.ProductResponse;
+import br.com.order.catalog.management.pagination.CursorPage;
+import br.com.order.catalog.management.pagination.SlicePage;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,20 +17,32 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-@RequestMapping("/orders")
+@RequestMapping(OrderController.PATH)
 @Tag(name = "Orders")
 public interface OrderController {
 
+    String PATH = "/orders";
+
+    int MAX_BATCH_SIZE = 1000;
+
+    String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     @Operation(summary = "Get an order by its uuid")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found the order",
@@ -33,6 +50,8 @@ public interface OrderController {
                             @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ProductResponse.class))
                     }),
+            @ApiResponse(responseCode = "304", description = "The order has not changed since the ETag in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid uuid supplied",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Order not found",
@@ -43,7 +62,20 @@ public interface OrderController {
             )
     })
     @GetMapping("/{id}")
-    EntityModel<OrderResponse> findById(@PathVariable("id") UUID id);
+    ResponseEntity<EntityModel<OrderResponse>> findById(@PathVariable("id") UUID id, WebRequest webRequest);
+
+    @Operation(summary = "Get the lean representation of an order by its uuid",
+            description = "Same body as the default representation, without the `links`.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found the order",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "304", description = "The order has not changed since the ETag in If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid uuid supplied", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Order not found", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping(value = "/{id}", params = "view=lean")
+    ResponseEntity<OrderResponse> findLeanById(@PathVariable("id") UUID id, WebRequest webRequest);
 
     @Operation(summary = "Get a paginated list of all orders")
     @ApiResponses(value = {
@@ -54,6 +86,33 @@ public interface OrderController {
     Page<OrderResponse> findAll(@Parameter(description = "Pagination and sorting information. Use `sort=status,asc` for example, not an array.")Pageable pageable,
                                 @Parameter(description = "Status of the Order, can be 'OPEN' or 'CLOSED'.") @RequestParam(required = false) String status);
 
+    @Operation(summary = "Get a slice of orders without counting them",
+            description = "Same paging and filters as the paginated list, but only tells whether a next page exists. "
+                    + "`approximateTotal=true` adds the order count estimated from the database statistics when no filter is applied.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Slice of orders retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/slice")
+    SlicePage<OrderResponse> findSlice(@Parameter(description = "Pagination and sorting information. Use `sort=status,asc` for example, not an array.") Pageable pageable,
+                                       @Parameter(description = "Status of the Order, can be 'OPEN' or 'CLOSED'.") @RequestParam(required = false) String status,
+                                       @Parameter(description = "Include the estimated number of orders, only when no filter is applied.") @RequestParam(defaultValue = "false") boolean approximateTotal);
+
+    @Operation(summary = "Scroll through orders with a cursor",
+            description = "Keyset pagination: latency does not grow with how far the client scrolls. "
+                    + "Pass the `next` cursor of a response to get the following window, with the same filters; "
+                    + "the cursor already carries the sort.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window of orders retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/scroll")
+    CursorPage<OrderResponse> scroll(@Parameter(description = "Cursor returned as `next` by the previous window.") @RequestParam(required = false) String cursor,
+                                     @Parameter(description = "Window size, at most 100.") @RequestParam(defaultValue = "20") int size,
+                                     @Parameter(description = "Sort of the first window: `id` or `total`, optionally followed by `,asc` or `,desc`.") @RequestParam(required = false) String sort,
+                                     @Parameter(description = "Status of the Order, can be 'OPEN' or 'CLOSED'.") @RequestParam(required = false) String status);
+
     @Operation(summary = "Create an order")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Order created",
@@ -64,11 +123,29 @@ public interface OrderController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "The order intake did not create the order in time, it may still be created",
                     content = @Content)
     })
     @PostMapping
 
-    EntityModel<OrderResponse> create(@Valid @RequestBody CreateOrderRequest request);
+    EntityModel<OrderResponse> create(@Valid @RequestBody CreateOrderRequest request,
+                                      @Parameter(description = "Unique key of this creation. Retrying with the same key returns the order already created instead of creating another one.")
+                                      @RequestHeader(value = IDEMPOTENCY_KEY, required = false) @Size(min = 1, max = 255) String idempotencyKey);
+
+    @Operation(summary = "Create many orders at once",
+            description = "Creates every valid order of the batch in one transaction, resolving all referenced products at once. "
+                    + "Each request gets a result at its index: the created order, or why it was rejected. "
+                    + "At most " + MAX_BATCH_SIZE + " orders per batch.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the result of each order",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchCreateOrderResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid body content", content = @Content),
+            @ApiResponse(responseCode = "413", description = "Too many orders in the batch", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PostMapping("/batch")
+    BatchCreateOrderResponse createBatch(@RequestBody List<CreateOrderRequest> requests);
 
     @Operation(summary = "Update an order")
     @ApiResponses(value = {
@@ -79,13 +156,39 @@ public interface OrderController {
                     }),
             @ApiResponse(responseCode = "400", description = "Invalid body content",
                     content = @Content),
+            @ApiResponse(responseCode = "409", description = "The order is no longer at the version in the body, or was updated meanwhile",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "The order changed since the ETag in If-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content
             )
     })
     @PutMapping("/{id}")
-    EntityModel<OrderResponse> update(@PathVariable("id") UUID id,
-                                      @Valid @RequestBody UpdateOrderRequest request);
+    ResponseEntity<EntityModel<OrderResponse>> update(@PathVariable("id") UUID id,
+                                                      @Valid @RequestBody UpdateOrderRequest request,
+                                                      WebRequest webRequest);
+
+    @Operation(summary = "Change the status or discount of an order",
+            description = "JSON merge patch of the status and discount, leaving the items as they are: an absent field is kept "
+                    + "and a null discount removes it. The total is computed again from the stored items.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Order patched",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid patch, or a field that cannot be patched", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Order not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "The order is no longer at the version in the body, or was updated meanwhile",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "The order changed since the ETag in If-Match", content = @Content),
+            @ApiResponse(responseCode = "422", description = "The order contains an inactive product", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    ResponseEntity<EntityModel<OrderResponse>> patch(@PathVariable("id") UUID id,
+                                                     @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                                                             content = @Content(schema = @Schema(implementation = PatchOrderRequest.class)))
+                                                     @RequestBody ObjectNode body,
+                                                     WebRequest webRequest);
 
     @Operation(summary = "Delete an order by its UUID")
     @ApiResponses(value = {
@@ -0,0 +1,24 @@
+package br.com.order.catalog.management.controller.order.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+/**
+ * Outcome of a batch of orders: one result per request, at the index the request had in the
+ * batch, holding either the created order or the reason it was rejected.
+ */
+public record BatchCreateOrderResponse(
+    int created,
+    int failed,
+    List<Result> results
+) {
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public record Result(
+      int index,
+      OrderResponse order,
+      String error
+  ) {
+
+  }
+}
@@ -12,7 +12,8 @@ public record OrderResponse(
     OrderStatus status,
     List<OrderItem> items,
     Integer discount,
-    BigDecimal total
+    BigDecimal total,
+    Long version
 ) {
 
 }
\ No newline at end of file
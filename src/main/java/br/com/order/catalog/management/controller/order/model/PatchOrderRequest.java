@@ -0,0 +1,14 @@
+package br.com.order.catalog.management.controller.order.model;
+
+import br.com.order.catalog.management.domain.order.OrderStatus;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+
+public record PatchOrderRequest(
+    OrderStatus status,
+    @Min(value = 0, message = "Discount must be greater than or equal to zero") Integer discount,
+    @PositiveOrZero(message = "Version must be greater than or equal to zero") Long version
+) {
+
+}
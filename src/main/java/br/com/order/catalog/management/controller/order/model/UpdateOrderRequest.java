@@ -6,13 +6,15 @@ import br.com.order.catalog.management.domain.order.PreOrderItem;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 
 import java.util.List;
 
 public record UpdateOrderRequest(
     @NotNull(message = "Status is required") OrderStatus status,
     @Valid List<PreOrderItem> items,
-    @Min(value = 0, message = "Discount must be greater than or equal to zero") Integer discount
+    @Min(value = 0, message = "Discount must be greater than or equal to zero") Integer discount,
+    @PositiveOrZero(message = "Version must be greater than or equal to zero") Long version
 ) {
 
 }
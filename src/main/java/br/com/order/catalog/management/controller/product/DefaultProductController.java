@@ -1,58 +1,86 @@
 package br.com.order.catalog.management.controller.product;
 
+import br.com.order.catalog.management.controller.EntityTags;
+import br.com.order.catalog.management.controller.ResourceLinks;
 import br.com.order.catalog.management.controller.product.model.CreateProductRequest;
+import br.com.order.catalog.management.controller.product.model.ProductImportResponse;
 import br.com.order.catalog.management.controller.product.model.ProductResponse;
 import br.com.order.catalog.management.controller.product.model.UpdateProductRequest;
 import br.com.order.catalog.management.mapper.ProductMapper;
+import br.com.order.catalog.management.pagination.CursorCodec;
+import br.com.order.catalog.management.pagination.CursorPage;
+import br.com.order.catalog.management.pagination.SlicePage;
 import br.com.order.catalog.management.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import br.com.order.catalog.management.specification.filter.ProductFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.hateoas.Link;
-import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
-@RequestMapping("/products")
+@RequestMapping(ProductController.PATH)
 public class DefaultProductController implements ProductController {
 
+  private static final ResourceLinks LINKS = ResourceLinks.of(PATH);
+
+  private static final String FILTERS = "{?name,type,active}";
+
+  private static final String LEAN = "lean";
+
   private final ProductService productService;
 
   private final ProductMapper productMapper;
 
-  public DefaultProductController(ProductService productService, ProductMapper productMapper) {
+  private final ObjectMapper objectMapper;
+
+  private final Validator validator;
+
+  public DefaultProductController(ProductService productService, ProductMapper productMapper,
+      ObjectMapper objectMapper, Validator validator) {
     this.productService = productService;
     this.productMapper = productMapper;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
   }
 
-  public EntityModel<ProductResponse> findById(UUID id) {
+  public ResponseEntity<EntityModel<ProductResponse>> findById(UUID id, WebRequest webRequest) {
+    final var eTag = EntityTags.of(productService.getProductRevision(id));
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
+
     final var product = productService.getProductById(id);
     final var resource = EntityModel.of(productMapper.toResponse(product));
+    LINKS.addItemLinks(resource, id, "update", "delete");
+    resource.add(LINKS.collection(FILTERS, "products"));
+
+    return ResponseEntity.ok().eTag(eTag).body(resource);
+  }
+
+  public ResponseEntity<ProductResponse> findLeanById(UUID id, WebRequest webRequest) {
+    final var eTag = EntityTags.of(productService.getProductRevision(id), LEAN);
+    if (webRequest.checkNotModified(eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    }
 
-    Link selfLink = WebMvcLinkBuilder.linkTo(
-        WebMvcLinkBuilder.methodOn(DefaultProductController.class).findById(id)).withSelfRel();
-    resource.add(selfLink);
-
-    resource.add(
-        WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(DefaultProductController.class).findAll(null,null,null,null))
-            .withRel("products"));
-    resource.add(WebMvcLinkBuilder.linkTo(
-            WebMvcLinkBuilder.methodOn(DefaultProductController.class).update(id,
-                new UpdateProductRequest(product.getName(), product.getPrice(), product.getType(),
-                    product.isActive())))
-        .withRel("update"));
-    resource.add(
-        WebMvcLinkBuilder.linkTo(
-                WebMvcLinkBuilder.methodOn(DefaultProductController.class).deleteById(id))
-            .withRel("delete"));
-
-    return resource;
+    return ResponseEntity.ok().eTag(eTag)
+        .body(productMapper.toResponse(productService.getProductById(id)));
   }
 
   public Page<ProductResponse> findAll(Pageable pageable, String name, String type, Boolean active) {
@@ -62,28 +90,52 @@ public class DefaultProductController implements ProductController {
     return productsPage.map(productMapper::toResponse);
   }
 
-  public EntityModel<ProductResponse> create(CreateProductRequest request) {
-    final var product = productService.saveProduct(productMapper.toDomain(request));
-    final var resource = EntityModel.of(productMapper.toResponse(product));
+  public SlicePage<ProductResponse> findSlice(Pageable pageable, String name, String type,
+      Boolean active, boolean approximateTotal) {
+    final var filter = new ProductFilter(name, type, active);
+    final var slice = productService.getProductSlice(pageable, filter)
+        .map(productMapper::toResponse);
+    return SlicePage.of(slice,
+        approximateTotal ? productService.estimateProductCount(filter) : OptionalLong.empty());
+  }
 
-    Link selfLink = WebMvcLinkBuilder.linkTo(
-            WebMvcLinkBuilder.methodOn(DefaultProductController.class).create(request))
-        .withSelfRel();
-    resource.add(selfLink);
+  public CursorPage<ProductResponse> scroll(String cursor, int size, String sort, String name,
+      String type, Boolean active) {
+    final var position = Objects.isNull(cursor)
+        ? CursorCodec.PRODUCTS.first(sort)
+        : CursorCodec.PRODUCTS.decode(cursor);
+    final var window = productService.scrollProducts(position.sort(), position.position(),
+        CursorCodec.windowSize(size), new ProductFilter(name, type, active));
+    return CursorCodec.PRODUCTS.toPage(window.map(productMapper::toResponse), position.sort());
+  }
 
-    return resource;
+  public EntityModel<ProductResponse> create(CreateProductRequest request) {
+    final var product = productService.saveProduct(productMapper.toDomain(request));
+    return LINKS.addCollectionLink(EntityModel.of(productMapper.toResponse(product)));
   }
 
-  public EntityModel<ProductResponse> update(UUID id, UpdateProductRequest updatedProduct) {
-    final var product = productService.updateProduct(id, updatedProduct);
-    final var resource = EntityModel.of(productMapper.toResponse(product));
+  public ProductImportResponse importProducts(InputStream body) throws IOException {
+    final var importReader = new ProductImportReader(objectMapper, validator, productMapper);
+    final var start = System.nanoTime();
+    final long imported;
+    try (var reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+      imported = productService.importProducts(importReader.products(reader));
+    }
+    final var elapsed = Math.max(1L, System.nanoTime() - start);
+    final var rows = imported + importReader.failed();
+
+    return new ProductImportResponse(imported, importReader.failed(),
+        rows * TimeUnit.SECONDS.toNanos(1) / elapsed, importReader.errors());
+  }
 
-    Link selfLink = WebMvcLinkBuilder.linkTo(
-            WebMvcLinkBuilder.methodOn(DefaultProductController.class).update(id, updatedProduct))
-        .withSelfRel();
-    resource.add(selfLink);
+  public ResponseEntity<EntityModel<ProductResponse>> update(UUID id,
+      UpdateProductRequest updatedProduct, WebRequest webRequest) {
+    // If-Match is checked by the conditional UPDATE itself, and the tag is of the row it returned
+    final var product = productService.updateProduct(id, updatedProduct,
+        EntityTags.expectedVersion(updatedProduct.version(), webRequest));
+    final var resource = LINKS.addItemLinks(EntityModel.of(productMapper.toResponse(product)), id);
 
-    return resource;
+    return ResponseEntity.ok().eTag(EntityTags.of(product.revision())).body(resource);
   }
 
   public ResponseEntity<Void> deleteById(UUID id) {
@@ -1,8 +1,11 @@
 package br.com.order.catalog.management.controller.product;
 
 import br.com.order.catalog.management.controller.product.model.CreateProductRequest;
+import br.com.order.catalog.management.controller.product.model.ProductImportResponse;
 import br.com.order.catalog.management.controller.product.model.ProductResponse;
 import br.com.order.catalog.management.controller.product.model.UpdateProductRequest;
+import br.com.order.catalog.management.pagination.CursorPage;
+import br.com.order.catalog.management.pagination.SlicePage;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,18 +17,25 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
 
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
-@RequestMapping("/products")
+@RequestMapping(ProductController.PATH)
 @Tag(name = "products")
 interface ProductController {
 
+    String PATH = "/products";
+
+    String NDJSON = "application/x-ndjson";
+
     @Operation(summary = "Get an product by its uuid")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Found the user",
@@ -33,6 +43,8 @@ interface ProductController {
                             @Content(mediaType = "application/json",
                                     schema = @Schema(implementation = ProductResponse.class))
                     }),
+            @ApiResponse(responseCode = "304", description = "The product has not changed since the ETag in If-None-Match",
+                    content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid uuid supplied",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found",
@@ -43,7 +55,20 @@ interface ProductController {
             )
     })
     @GetMapping("/{id}")
-    EntityModel<ProductResponse> findById(@PathVariable("id") UUID id);
+    ResponseEntity<EntityModel<ProductResponse>> findById(@PathVariable("id") UUID id, WebRequest webRequest);
+
+    @Operation(summary = "Get the lean representation of an product by its uuid",
+            description = "Same body as the default representation, without the `links`.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found the product",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class))),
+            @ApiResponse(responseCode = "304", description = "The product has not changed since the ETag in If-None-Match", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Invalid uuid supplied", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Product not found", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping(value = "/{id}", params = "view=lean")
+    ResponseEntity<ProductResponse> findLeanById(@PathVariable("id") UUID id, WebRequest webRequest);
 
     @Operation(summary = "Get a paginated list of all products",
             description = "Retrieves a paginated list of products based on the provided filters. " +
@@ -69,6 +94,48 @@ interface ProductController {
     );
 
 
+    @Operation(summary = "Get a slice of products without counting them",
+            description = "Same paging and filters as the paginated list, but only tells whether a next page exists. "
+                    + "`approximateTotal=true` adds the product count estimated from the database statistics when no filter is applied.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Slice of products retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SlicePage.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/slice")
+    SlicePage<ProductResponse> findSlice(
+            @Parameter(description = "Pagination and sorting information. Use `sort=name,asc` for example, not an array.")
+            Pageable pageable,
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Type of the product, can be 'PRODUCT' or 'SERVICE'.")
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Include the estimated number of products, only when no filter is applied.")
+            @RequestParam(defaultValue = "false") boolean approximateTotal
+    );
+
+    @Operation(summary = "Scroll through products with a cursor",
+            description = "Keyset pagination: latency does not grow with how far the client scrolls. "
+                    + "Pass the `next` cursor of a response to get the following window, with the same filters; "
+                    + "the cursor already carries the sort.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Window of products retrieved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or unsupported sort", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @GetMapping("/scroll")
+    CursorPage<ProductResponse> scroll(
+            @Parameter(description = "Cursor returned as `next` by the previous window.")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Window size, at most 100.")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort of the first window: `id`, `name` or `price`, optionally followed by `,asc` or `,desc`.")
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Type of the product, can be 'PRODUCT' or 'SERVICE'.")
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Boolean active
+    );
+
     @Operation(summary = "Create a new product")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Product created successfully",
@@ -79,17 +146,33 @@ interface ProductController {
     @PostMapping
     EntityModel<ProductResponse> create(@Valid @RequestBody CreateProductRequest request);
 
+    @Operation(summary = "Import products from newline-delimited JSON",
+            description = "Each line is a product like the body of `POST /products`, with an optional `id`: "
+                    + "a product with that id is updated, any other row creates a product. "
+                    + "The body is streamed to the database, so imports of any size are accepted. "
+                    + "Rejected lines are counted and the errors of the first ones reported by line number.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import done, see the rejected lines",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductImportResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = NDJSON)
+    ProductImportResponse importProducts(InputStream body) throws IOException;
+
     @Operation(summary = "Update an existing product by UUID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Product updated successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "404", description = "Product not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "The product is no longer at the version in the body", content = @Content),
+            @ApiResponse(responseCode = "412", description = "The product changed since the ETag in If-Match", content = @Content),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @PutMapping("/{id}")
-    EntityModel<ProductResponse> update(@PathVariable("id") UUID id,
-                                        @Valid @RequestBody UpdateProductRequest updatedProduct);
+    ResponseEntity<EntityModel<ProductResponse>> update(@PathVariable("id") UUID id,
+                                                        @Valid @RequestBody UpdateProductRequest updatedProduct,
+                                                        WebRequest webRequest);
 
     @Operation(summary = "Delete a product by UUID")
     @ApiResponses(value = {
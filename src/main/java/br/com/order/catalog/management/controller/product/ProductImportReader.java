@@ -0,0 +1,107 @@
+package br.com.order.catalog.management.controller.product;
+
+import br.com.order.catalog.management.controller.ValidationMessages;
+import br.com.order.catalog.management.controller.product.model.CreateProductRequest;
+import br.com.order.catalog.management.controller.product.model.ProductImportResponse.RowError;
+import br.com.order.catalog.management.domain.product.Product;
+import br.com.order.catalog.management.mapper.ProductMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Reads products from newline-delimited JSON one line at a time, so the memory an import takes
+ * does not grow with its size.
+ *
+ * <p>Every line is a {@link CreateProductRequest}, validated with the same rules, plus an optional
+ * {@code id} naming the product to update. Rejected lines are counted and left out of the
+ * stream; the errors of the first {@value #MAX_REPORTED_ERRORS} are kept with their line number.
+ */
+final class ProductImportReader {
+
+  static final int MAX_REPORTED_ERRORS = 100;
+
+  private static final String ID = "id";
+
+  private final ObjectMapper objectMapper;
+
+  private final Validator validator;
+
+  private final ProductMapper productMapper;
+
+  private final List<RowError> errors = new ArrayList<>();
+
+  private long lines;
+
+  private long failed;
+
+  ProductImportReader(ObjectMapper objectMapper, Validator validator,
+      ProductMapper productMapper) {
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.productMapper = productMapper;
+  }
+
+  /**
+   * Valid products of {@code reader}, read lazily as the stream is consumed; blank lines are
+   * skipped.
+   */
+  Stream<Product> products(BufferedReader reader) {
+    return reader.lines()
+        .map(this::read)
+        .filter(Objects::nonNull);
+  }
+
+  private Product read(String line) {
+    final var lineNumber = ++lines;
+    if (line.isBlank()) {
+      return null;
+    }
+    try {
+      final var row = objectMapper.readTree(line);
+      if (!(row instanceof ObjectNode fields)) {
+        return reject(lineNumber, "Malformed product: a JSON object is expected");
+      }
+      final var id = fields.remove(ID);
+      final var request = objectMapper.treeToValue(fields, CreateProductRequest.class);
+      final var violations = validator.validate(request);
+      if (!violations.isEmpty()) {
+        return reject(lineNumber, ValidationMessages.of(violations));
+      }
+      final var product = productMapper.toDomain(request);
+      if (Objects.isNull(id) || id.isNull()) {
+        return product;
+      }
+      return new Product(UUID.fromString(id.asText()), product.getCreatedAt(),
+          product.getUpdatedAt(), product.getName(), product.getPrice(), product.getType(),
+          product.isActive(), product.getVersion());
+    } catch (JsonProcessingException ex) {
+      return reject(lineNumber, "Malformed product: " + ex.getOriginalMessage());
+    } catch (IllegalArgumentException | ArithmeticException ex) {
+      return reject(lineNumber, ex.getMessage());
+    }
+  }
+
+  private Product reject(long line, String error) {
+    failed++;
+    if (errors.size() < MAX_REPORTED_ERRORS) {
+      errors.add(new RowError(line, error));
+    }
+    return null;
+  }
+
+  long failed() {
+    return failed;
+  }
+
+  List<RowError> errors() {
+    return List.copyOf(errors);
+  }
+}
@@ -4,10 +4,12 @@ import br.com.order.catalog.management.domain.product.ProductType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 
 public record CreateProductRequest(
     @NotBlank(message = "Product name is required")
+    @Size(max = 255, message = "Product name must have at most 255 characters")
     String name,
 
     @NotNull(message = "Product price is required")
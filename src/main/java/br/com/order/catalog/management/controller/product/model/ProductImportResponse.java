@@ -0,0 +1,22 @@
+package br.com.order.catalog.management.controller.product.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a product import: how many rows were written and rejected, the rows read per
+ * second, and the errors of the first rejected rows, by line number.
+ */
+public record ProductImportResponse(
+    long imported,
+    long failed,
+    long rowsPerSecond,
+    List<RowError> errors
+) {
+
+  public record RowError(
+      long line,
+      String error
+  ) {
+
+  }
+}
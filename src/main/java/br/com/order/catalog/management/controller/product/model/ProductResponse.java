@@ -10,7 +10,8 @@ public record ProductResponse(
     String name,
     BigDecimal price,
     ProductType type,
-    Boolean active
+    Boolean active,
+    Long version
 ) {
 
 }
@@ -4,10 +4,13 @@ import br.com.order.catalog.management.domain.product.ProductType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import java.math.BigDecimal;
 
 public record UpdateProductRequest(
     @NotBlank(message = "Product name is required")
+    @Size(max = 255, message = "Product name must have at most 255 characters")
     String name,
 
     @NotNull(message = "Product price is required")
@@ -18,7 +21,10 @@ public record UpdateProductRequest(
     ProductType type,
 
     @NotNull(message = "Product active is required")
-    Boolean active
+    Boolean active,
+
+    @PositiveOrZero(message = "Product version must be greater than or equal to zero")
+    Long version
 ) {
 
 }
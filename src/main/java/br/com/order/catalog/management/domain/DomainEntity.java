@@ -1,6 +1,7 @@
 package br.com.order.catalog.management.domain;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -12,12 +13,34 @@ public abstract class DomainEntity {
 
   protected Instant updatedAt;
 
+  /**
+   * Number of times this entity was updated since it was created, which a conditional update
+   * compares to detect that another request changed it in between.
+   */
+  protected Long version;
+
+  /**
+   * Entity without a version of its own, which is updated through the entity that holds it.
+   */
   protected DomainEntity(UUID id, Instant createdAt, Instant updatedAt) {
+    this(id, createdAt, updatedAt, null);
+  }
+
+  protected DomainEntity(UUID id, Instant createdAt, Instant updatedAt, Long version) {
     this.id = id;
+    this.version = version;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
   }
 
+  /**
+   * Current instant at the microsecond precision of the database, so a timestamp read back
+   * equals the one that was written.
+   */
+  public static Instant now() {
+    return Instant.now().truncatedTo(ChronoUnit.MICROS);
+  }
+
   public UUID getId() {
     return Objects.requireNonNull(id, "'id' should not be null");
   }
@@ -30,6 +53,25 @@ public abstract class DomainEntity {
     return updatedAt;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
+  /**
+   * Revision of this entity as conditional requests see it.
+   */
+  public Revision revision() {
+    return new Revision(version, updatedAt);
+  }
+
+  /**
+   * Marks this entity as updated now, in the next version.
+   */
+  protected void touch() {
+    this.updatedAt = now();
+    this.version = Objects.isNull(version) ? null : version + 1;
+  }
+
 
   @Override
   public boolean equals(Object object) {
@@ -0,0 +1,96 @@
+package br.com.order.catalog.management.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Immutable monetary amount held as a {@code long} count of cents.
+ *
+ * <p>Every operation is exact or rounds HALF_EVEN to the cent, and every operation that could
+ * leave the {@code long} range throws {@link ArithmeticException} instead of wrapping around.
+ * Serializable so the second-level cache can hold it as it is.
+ */
+public record Money(long cents) implements Comparable<Money>, Serializable {
+
+  public static final int SCALE = 2;
+
+  public static final Money ZERO = new Money(0L);
+
+  private static final long PERCENT = 100L;
+
+  public static Money ofCents(final long cents) {
+    return cents == 0L ? ZERO : new Money(cents);
+  }
+
+  /**
+   * Rounds {@code amount} HALF_EVEN to the cent.
+   *
+   * @throws ArithmeticException if the amount does not fit in a {@code long} count of cents
+   */
+  @JsonCreator
+  public static Money of(final BigDecimal amount) {
+    Objects.requireNonNull(amount, "'amount' should not be null");
+    return ofCents(amount.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact());
+  }
+
+  public Money plus(final Money other) {
+    return ofCents(Math.addExact(cents, other.cents));
+  }
+
+  public Money minus(final Money other) {
+    return ofCents(Math.subtractExact(cents, other.cents));
+  }
+
+  public Money times(final int quantity) {
+    return ofCents(Math.multiplyExact(cents, quantity));
+  }
+
+  /**
+   * {@code percent}% of this amount, rounded HALF_EVEN to the cent.
+   */
+  public Money percentage(final int percent) {
+    return ofCents(divideHalfEven(Math.multiplyExact(cents, percent), PERCENT));
+  }
+
+  /**
+   * This amount minus {@code percent}% of {@code base}, rounded HALF_EVEN to the cent only once,
+   * after the subtraction. {@code x.minusPercentageOf(x, percent)} discounts {@code x} itself.
+   */
+  public Money minusPercentageOf(final Money base, final int percent) {
+    final var hundredthsOfCent = Math.subtractExact(Math.multiplyExact(cents, PERCENT),
+        Math.multiplyExact(base.cents, percent));
+    return ofCents(divideHalfEven(hundredthsOfCent, PERCENT));
+  }
+
+  public boolean isPositive() {
+    return cents > 0L;
+  }
+
+  @JsonValue
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  @Override
+  public int compareTo(final Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+
+  private static long divideHalfEven(final long dividend, final long divisor) {
+    final var quotient = Math.floorDiv(dividend, divisor);
+    final var twiceRemainder = 2 * Math.floorMod(dividend, divisor);
+    if (twiceRemainder > divisor || (twiceRemainder == divisor && (quotient & 1) != 0)) {
+      return quotient + 1;
+    }
+    return quotient;
+  }
+}
@@ -0,0 +1,18 @@
+package br.com.order.catalog.management.domain;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+import java.util.Objects;
+
+/**
+ * Lets {@link Positive} be used on {@link Money} attributes. Registered with Hibernate Validator
+ * through {@code META-INF/services/jakarta.validation.ConstraintValidator}.
+ */
+public class PositiveMoneyValidator implements ConstraintValidator<Positive, Money> {
+
+  @Override
+  public boolean isValid(Money value, ConstraintValidatorContext context) {
+    return Objects.isNull(value) || value.isPositive();
+  }
+}
@@ -0,0 +1,16 @@
+package br.com.order.catalog.management.domain;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Persisted state of a resource as conditional requests see it: the version of its row, which
+ * every write moves on, and the last change to anything its representation shows.
+ */
+public record Revision(Long version, Instant lastModified) {
+
+  public Revision {
+    Objects.requireNonNull(version, "'version' should not be null");
+    Objects.requireNonNull(lastModified, "'lastModified' should not be null");
+  }
+}
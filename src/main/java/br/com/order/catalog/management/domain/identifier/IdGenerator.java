@@ -0,0 +1,16 @@
+package br.com.order.catalog.management.domain.identifier;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+  UUID nextId();
+
+  /**
+   * The generator used by the domain factories when none is given.
+   */
+  static IdGenerator defaultGenerator() {
+    return UuidV7Generator.getInstance();
+  }
+}
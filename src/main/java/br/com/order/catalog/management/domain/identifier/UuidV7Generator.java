@@ -0,0 +1,64 @@
+package br.com.order.catalog.management.domain.identifier;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, monotonic RFC 9562 version 7 UUID generator.
+ *
+ * <p>The 48-bit Unix millisecond timestamp and the 12-bit {@code rand_a} field are kept together
+ * in one {@link AtomicLong} and advanced with a CAS loop: a new millisecond restarts the counter,
+ * and ids generated within the same millisecond (or after the clock moved backwards) increment
+ * it, carrying into the timestamp when it overflows. Ids from one generator are therefore
+ * strictly increasing. The 62 bits of {@code rand_b} come from {@link ThreadLocalRandom}, which,
+ * unlike the {@code SecureRandom} behind {@link UUID#randomUUID()}, is not shared between
+ * threads.
+ */
+public final class UuidV7Generator implements IdGenerator {
+
+  private static final UuidV7Generator INSTANCE = new UuidV7Generator(Clock.systemUTC());
+
+  private static final int SEQUENCE_BITS = 12;
+
+  private static final long VERSION = 0x7000L;
+
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+  private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private final Clock clock;
+
+  private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+  public UuidV7Generator(Clock clock) {
+    this.clock = clock;
+  }
+
+  public static UuidV7Generator getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public UUID nextId() {
+    final var timestampAndSequence = nextTimestampAndSequence();
+    final var timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+    final var sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+    final var mostSignificantBits = timestamp << 16 | VERSION | sequence;
+    final var leastSignificantBits =
+        VARIANT | ThreadLocalRandom.current().nextLong() & RAND_B_MASK;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  private long nextTimestampAndSequence() {
+    final var now = clock.millis() << SEQUENCE_BITS;
+    while (true) {
+      final var last = lastTimestampAndSequence.get();
+      final var next = now > last ? now : last + 1;
+      if (lastTimestampAndSequence.compareAndSet(last, next)) {
+        return next;
+      }
+    }
+  }
+}
@@ -1,11 +1,12 @@
 package br.com.order.catalog.management.domain.order;
 
 import br.com.order.catalog.management.domain.DomainEntity;
-import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.Revision;
+import br.com.order.catalog.management.domain.identifier.IdGenerator;
 import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -18,20 +19,25 @@ public class Order extends DomainEntity {
 
   private Integer discount;
 
-  private BigDecimal total;
+  private Money total;
 
-  private final static Integer MONEY_SCALE = 2;
+  private OrderTotals totals;
 
   public static Order newOrder(final OrderStatus status, final Set<OrderItem> items,
       final Integer discount) {
-    final var id = UUID.randomUUID();
-    var now = Instant.now();
-    return new Order(id, now, null, status, items, discount, null);
+    return newOrder(IdGenerator.defaultGenerator(), status, items, discount);
+  }
+
+  public static Order newOrder(final IdGenerator idGenerator, final OrderStatus status,
+      final Set<OrderItem> items, final Integer discount) {
+    final var id = idGenerator.nextId();
+    var now = now();
+    return new Order(id, now, now, status, items, discount, null, 0L);
   }
 
   public Order(final UUID id, final Instant createdAt, final Instant updatedAt, final OrderStatus status, final Set<OrderItem> items,
-      final Integer discount, BigDecimal total) {
-    super(id, createdAt, updatedAt);
+      final Integer discount, Money total, final Long version) {
+    super(id, createdAt, updatedAt, version);
     this.status = status;
     this.items = items;
     this.discount = discount;
@@ -44,11 +50,45 @@ public class Order extends DomainEntity {
     this.items = newOrderItems;
     this.discount = newDiscount;
     this.total = calculateTotal();
-    this.updatedAt = Instant.now();
+    touch();
     validate();
     return this;
   }
 
+  /**
+   * Changes the status and discount, keeping the items, whose total is computed again.
+   */
+  public Order update(OrderStatus newStatus, Integer newDiscount) {
+    return update(newStatus, items, newDiscount);
+  }
+
+  /**
+   * Revision of the order as shown, which also changes with the products of its items; the same
+   * as {@code OrderRepository.findRevisionById} reads without loading the order.
+   */
+  @Override
+  public Revision revision() {
+    var lastModified = updatedAt;
+    for (final OrderItem item : items) {
+      final var productUpdatedAt = item.getProduct().getUpdatedAt();
+      if (Objects.nonNull(productUpdatedAt) && productUpdatedAt.isAfter(lastModified)) {
+        lastModified = productUpdatedAt;
+      }
+    }
+    return new Revision(version, lastModified);
+  }
+
+  /**
+   * Detached copy of this order and of its items, which can be changed without affecting the
+   * original.
+   */
+  public Order copy() {
+    final var copiedItems = new HashSet<OrderItem>((int) (items.size() / 0.75f) + 1);
+    items.forEach(item -> copiedItems.add(item.copy()));
+    return new Order(getId(), getCreatedAt(), updatedAt, status, copiedItems, discount, total,
+        version);
+  }
+
   private void validate() {
     validateItems();
   }
@@ -61,44 +101,9 @@ public class Order extends DomainEntity {
     });
   }
 
-  private BigDecimal calculateTotal() {
-    final var totalWithoutProducts = calculateTotalWithOutProducts();
-    final var totalByProducts = calculateTotalByProducts();
-    final var totalByProductsAfterDiscount =
-        isToCalculateDiscount() ? calculateDiscount(totalByProducts)
-            : totalByProducts;
-    return totalWithoutProducts.add(totalByProductsAfterDiscount)
-        .setScale(MONEY_SCALE, RoundingMode.HALF_EVEN);
-  }
-
-  private boolean isToCalculateDiscount() {
-    return Objects.equals(status, OrderStatus.OPEN) && discount > 0;
-  }
-
-  private BigDecimal calculateTotalWithOutProducts() {
-    return items.stream()
-        .filter(item -> item.getProduct().isActive()
-            && item.getProduct().getType() != ProductType.PRODUCT)
-        .map(OrderItem::getSubtotal)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
-  }
-
-  private BigDecimal calculateTotalByProducts() {
-    return items.stream()
-        .filter(item -> item.getProduct().isActive()
-            && item.getProduct().getType() == ProductType.PRODUCT)
-        .map(OrderItem::getSubtotal)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
-  }
-
-  private BigDecimal calculateDiscount(BigDecimal totalProducts) {
-    BigDecimal discountAmount = Objects.nonNull(discount) ?
-        totalProducts.multiply(
-            new BigDecimal(discount).divide(new BigDecimal(100), MONEY_SCALE,
-                RoundingMode.HALF_EVEN)) :
-        BigDecimal.ZERO;
-
-    return totalProducts.subtract(discountAmount);
+  private Money calculateTotal() {
+    this.totals = OrderTotals.calculate(items, status, discount);
+    return totals.total();
   }
 
   public OrderStatus getStatus() {
@@ -113,9 +118,16 @@ public class Order extends DomainEntity {
     return discount;
   }
 
-  public BigDecimal getTotal() {
+  public Money getTotal() {
     return total;
   }
 
+  public OrderTotals getTotals() {
+    if (Objects.isNull(totals)) {
+      totals = OrderTotals.calculate(items, status, discount);
+    }
+    return totals;
+  }
+
 
 }
@@ -2,8 +2,9 @@ package br.com.order.catalog.management.domain.order;
 
 
 import br.com.order.catalog.management.domain.DomainEntity;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.identifier.IdGenerator;
 import br.com.order.catalog.management.domain.product.Product;
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -14,9 +15,14 @@ public class OrderItem extends DomainEntity {
   private final Integer amount;
 
   public static OrderItem newOrderItem(final Product product, final Integer amount) {
-    final var id = UUID.randomUUID();
-    var now = Instant.now();
-    return new OrderItem(id, now, null, product, amount);
+    return newOrderItem(IdGenerator.defaultGenerator(), product, amount);
+  }
+
+  public static OrderItem newOrderItem(final IdGenerator idGenerator, final Product product,
+      final Integer amount) {
+    final var id = idGenerator.nextId();
+    var now = now();
+    return new OrderItem(id, now, now, product, amount);
   }
 
   public OrderItem(final UUID id, final Instant createdAt, final Instant updatedAt,
@@ -26,8 +32,22 @@ public class OrderItem extends DomainEntity {
     this.amount = amount;
   }
 
-  public BigDecimal getSubtotal() {
-    return this.product.getPrice().multiply(BigDecimal.valueOf(amount));
+  /**
+   * This item, keeping its id, ordering {@code newAmount} of the current state of its product.
+   */
+  public OrderItem update(final Product currentProduct, final Integer newAmount) {
+    return new OrderItem(getId(), getCreatedAt(), now(), currentProduct, newAmount);
+  }
+
+  /**
+   * Detached copy of this item and of its product.
+   */
+  public OrderItem copy() {
+    return new OrderItem(getId(), getCreatedAt(), updatedAt, product.copy(), amount);
+  }
+
+  public Money getSubtotal() {
+    return this.product.getPrice().times(amount);
   }
 
   public Product getProduct() {
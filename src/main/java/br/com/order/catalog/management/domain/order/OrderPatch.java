@@ -0,0 +1,22 @@
+package br.com.order.catalog.management.domain.order;
+
+import java.util.Objects;
+
+/**
+ * Merge patch of the status and discount of an order: a null {@code status} keeps the current
+ * one, and the discount is only replaced, possibly by null, when {@code patchesDiscount}.
+ */
+public record OrderPatch(
+    OrderStatus status,
+    boolean patchesDiscount,
+    Integer discount
+) {
+
+  public OrderStatus statusOf(Order order) {
+    return Objects.isNull(status) ? order.getStatus() : status;
+  }
+
+  public Integer discountOf(Order order) {
+    return patchesDiscount ? discount : order.getDiscount();
+  }
+}
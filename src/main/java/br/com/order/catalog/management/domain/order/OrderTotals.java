@@ -0,0 +1,55 @@
+package br.com.order.catalog.management.domain.order;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.product.ProductType;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Breakdown of an order total: the subtotal of active products, the subtotal of active services,
+ * the discount taken from the products and the resulting total.
+ *
+ * <p>Totals are accumulated in a single pass over the items as {@code long} cents, so no
+ * intermediate object is created per item. The discount is only applied to products and only
+ * while the order is {@link OrderStatus#OPEN}; the total is rounded HALF_EVEN exactly like
+ * {@code (services + products - products * discount / 100).setScale(2, HALF_EVEN)}.
+ */
+public record OrderTotals(
+    Money productsSubtotal,
+    Money servicesSubtotal,
+    Money discountAmount,
+    Money total
+) {
+
+  public static OrderTotals calculate(final Collection<OrderItem> items, final OrderStatus status,
+      final Integer discount) {
+    long productsInCents = 0L;
+    long servicesInCents = 0L;
+
+    for (final OrderItem item : items) {
+      final var product = item.getProduct();
+      if (!Boolean.TRUE.equals(product.isActive())) {
+        continue;
+      }
+      final var subtotalInCents = Math.multiplyExact(product.getPrice().cents(), item.getAmount());
+      if (product.getType() == ProductType.PRODUCT) {
+        productsInCents = Math.addExact(productsInCents, subtotalInCents);
+      } else {
+        servicesInCents = Math.addExact(servicesInCents, subtotalInCents);
+      }
+    }
+
+    final var products = Money.ofCents(productsInCents);
+    final var services = Money.ofCents(servicesInCents);
+    final var gross = products.plus(services);
+    final var total = isDiscountApplicable(status, discount)
+        ? gross.minusPercentageOf(products, discount)
+        : gross;
+
+    return new OrderTotals(products, services, gross.minus(total), total);
+  }
+
+  private static boolean isDiscountApplicable(final OrderStatus status, final Integer discount) {
+    return Objects.equals(status, OrderStatus.OPEN) && Objects.nonNull(discount) && discount > 0;
+  }
+}
@@ -1,10 +1,8 @@
 package br.com.order.catalog.management.domain.order;
 
-import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public record PreOrder(
     OrderStatus status,
@@ -13,13 +11,14 @@ public record PreOrder(
 ) {
 
   public Set<UUID> getItemIds() {
-    return items().stream().map(PreOrderItem::id).collect(Collectors.toSet());
+    return indexItems().ids();
   }
 
-  public Integer getItemAmountByItemId(UUID id) {
-    return items.stream().filter(item -> item.id().equals(id))
-        .findFirst()
-        .orElseThrow(() -> new ResourceNotFoundException("Product not found"))
-        .amount();
+  /**
+   * Builds the product id to amount index of the items, merging duplicated lines. Callers that
+   * look up many amounts should build it once and keep it.
+   */
+  public PreOrderItemIndex indexItems() {
+    return PreOrderItemIndex.of(items);
   }
 }
@@ -0,0 +1,127 @@
+package br.com.order.catalog.management.domain.order;
+
+import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
+import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Product id to amount index of the items of a {@link PreOrder}, built once in O(n).
+ *
+ * <p>Lines with the same product id are merged by summing their amounts. Ids are kept as their
+ * two {@code long} halves in an open-addressing table with linear probing, so neither the ids nor
+ * the amounts are boxed.
+ */
+public final class PreOrderItemIndex {
+
+  private static final PreOrderItemIndex EMPTY = new PreOrderItemIndex(1);
+
+  private final long[] mostSignificantBits;
+
+  private final long[] leastSignificantBits;
+
+  private final int[] amounts;
+
+  private final boolean[] occupied;
+
+  private final int mask;
+
+  private int size;
+
+  private PreOrderItemIndex(final int expectedSize) {
+    final var capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+    this.mostSignificantBits = new long[capacity];
+    this.leastSignificantBits = new long[capacity];
+    this.amounts = new int[capacity];
+    this.occupied = new boolean[capacity];
+    this.mask = capacity - 1;
+  }
+
+  public static PreOrderItemIndex of(final List<PreOrderItem> items) {
+    if (Objects.isNull(items) || items.isEmpty()) {
+      return EMPTY;
+    }
+    final var index = new PreOrderItemIndex(items.size());
+    for (final PreOrderItem item : items) {
+      if (Objects.isNull(item.id()) || Objects.isNull(item.amount())) {
+        throw new InvalidItemExceptionException("Order item must have a product id and an amount");
+      }
+      index.merge(item.id(), item.amount());
+    }
+    return index;
+  }
+
+  private void merge(final UUID id, final int amount) {
+    final var msb = id.getMostSignificantBits();
+    final var lsb = id.getLeastSignificantBits();
+    var slot = slotOf(msb, lsb);
+    while (occupied[slot]) {
+      if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+        amounts[slot] = Math.addExact(amounts[slot], amount);
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    occupied[slot] = true;
+    mostSignificantBits[slot] = msb;
+    leastSignificantBits[slot] = lsb;
+    amounts[slot] = amount;
+    size++;
+  }
+
+  public boolean contains(final UUID id) {
+    return findSlot(id) >= 0;
+  }
+
+  /**
+   * Total amount ordered for {@code id}, summed over every line that references it.
+   */
+  public int amountOf(final UUID id) {
+    final var slot = findSlot(id);
+    if (slot < 0) {
+      throw new ResourceNotFoundException("Product not found");
+    }
+    return amounts[slot];
+  }
+
+  public Set<UUID> ids() {
+    final var ids = new HashSet<UUID>((int) (size / 0.75f) + 1);
+    for (int slot = 0; slot < occupied.length; slot++) {
+      if (occupied[slot]) {
+        ids.add(new UUID(mostSignificantBits[slot], leastSignificantBits[slot]));
+      }
+    }
+    return ids;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private int findSlot(final UUID id) {
+    final var msb = id.getMostSignificantBits();
+    final var lsb = id.getLeastSignificantBits();
+    var slot = slotOf(msb, lsb);
+    while (occupied[slot]) {
+      if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private int slotOf(final long msb, final long lsb) {
+    // murmur3 finalizer, so ids with correlated leading bits still spread over the table
+    var hash = msb ^ Long.rotateLeft(lsb, 32);
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return (int) hash & mask;
+  }
+}
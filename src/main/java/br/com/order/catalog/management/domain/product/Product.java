@@ -1,55 +1,66 @@
 package br.com.order.catalog.management.domain.product;
 
 import br.com.order.catalog.management.domain.DomainEntity;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.identifier.IdGenerator;
 import java.time.Instant;
-import java.util.Objects;
 import java.util.UUID;
 
 public class Product extends DomainEntity {
 
   private String name;
 
-  private BigDecimal price;
+  private Money price;
 
   private ProductType type;
 
   private Boolean active;
 
-  public static Product newProduct(final String name, final BigDecimal price,
+  public static Product newProduct(final String name, final Money price,
       final ProductType type,
       final Boolean active) {
-    var id = UUID.randomUUID();
-    var now = Instant.now();
-    return new Product(id, now, null, name, price, type, active);
+    return newProduct(IdGenerator.defaultGenerator(), name, price, type, active);
   }
 
-  public Product(final UUID id, final Instant createdAt, final Instant updatedAt, final String name, final BigDecimal price, final ProductType type,
-      final Boolean active) {
-    super(id, createdAt, updatedAt);
+  public static Product newProduct(final IdGenerator idGenerator, final String name,
+      final Money price, final ProductType type, final Boolean active) {
+    var id = idGenerator.nextId();
+    var now = now();
+    return new Product(id, now, now, name, price, type, active, 0L);
+  }
+
+  public Product(final UUID id, final Instant createdAt, final Instant updatedAt, final String name, final Money price, final ProductType type,
+      final Boolean active, final Long version) {
+    super(id, createdAt, updatedAt, version);
     this.name = name;
     this.price = price;
     this.type = type;
     this.active = active;
   }
 
-  public Product update(String newName, BigDecimal newPrice, ProductType newType,
+  public Product update(String newName, Money newPrice, ProductType newType,
       Boolean willBeActive) {
     this.name = newName;
-    this.price = newPrice.setScale(2, RoundingMode.HALF_EVEN);
+    this.price = newPrice;
     this.type = newType;
     this.active = willBeActive;
-    this.updatedAt = Instant.now();
+    touch();
     return this;
   }
 
+  /**
+   * Detached copy of this product, which can be changed without affecting the original.
+   */
+  public Product copy() {
+    return new Product(getId(), getCreatedAt(), updatedAt, name, price, type, active, version);
+  }
+
   public String getName() {
     return name;
   }
 
-  public BigDecimal getPrice() {
-    return Objects.nonNull(price) ? price.setScale(2, RoundingMode.HALF_EVEN) : null;
+  public Money getPrice() {
+    return price;
   }
 
   public ProductType getType() {
@@ -59,6 +70,4 @@ public class Product extends DomainEntity {
   public Boolean isActive() {
     return active;
   }
-
-
 }
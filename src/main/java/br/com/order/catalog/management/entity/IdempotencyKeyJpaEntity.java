@@ -0,0 +1,78 @@
+package br.com.order.catalog.management.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * {@code Idempotency-Key} sent with the creation of an order, kept until it expires so a retry
+ * gets the order it created instead of creating another one.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKeyJpaEntity {
+
+  @Id
+  @Column(name = "idempotency_key")
+  private String key;
+
+  @Column(nullable = false)
+  private UUID orderId;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  public IdempotencyKeyJpaEntity() {
+  }
+
+  public IdempotencyKeyJpaEntity(String key, UUID orderId, Instant createdAt) {
+    this.key = key;
+    this.orderId = orderId;
+    this.createdAt = createdAt;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public UUID getOrderId() {
+    return orderId;
+  }
+
+  public void setOrderId(UUID orderId) {
+    this.orderId = orderId;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) {
+      return true;
+    }
+    if (object == null || getClass() != object.getClass()) {
+      return false;
+    }
+    IdempotencyKeyJpaEntity that = (IdempotencyKeyJpaEntity) object;
+    return Objects.equals(key, that.key);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(key);
+  }
+}
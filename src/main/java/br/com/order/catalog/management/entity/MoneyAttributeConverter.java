@@ -0,0 +1,21 @@
+package br.com.order.catalog.management.entity;
+
+import br.com.order.catalog.management.domain.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Converter(autoApply = true)
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+  @Override
+  public BigDecimal convertToDatabaseColumn(Money money) {
+    return Objects.nonNull(money) ? money.toBigDecimal() : null;
+  }
+
+  @Override
+  public Money convertToEntityAttribute(BigDecimal amount) {
+    return Objects.nonNull(amount) ? Money.of(amount) : null;
+  }
+}
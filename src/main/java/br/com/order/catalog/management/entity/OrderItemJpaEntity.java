@@ -4,29 +4,39 @@ import br.com.order.catalog.management.domain.order.OrderItem;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity
 @Table(name = "order_items")
-public class OrderItemJpaEntity {
+public class OrderItemJpaEntity implements Persistable<UUID> {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
   private UUID id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "order_id", nullable = false)
   private OrderJpaEntity order;
 
+  /**
+   * Resolved by id rather than joined, so products held by the second-level cache are not read
+   * again; the missing ones are loaded in batches.
+   */
   @ManyToOne
+  @Fetch(FetchMode.SELECT)
   @JoinColumn(name = "product_id", nullable = false)
   private ProductJpaEntity product;
 
   @Positive(message = "Amount must be positive")
   private Integer amount;
 
+  @Transient
+  private boolean isNew = true;
+
   public OrderItemJpaEntity() {
   }
 
@@ -72,11 +82,24 @@ public class OrderItemJpaEntity {
   }
 
   public static OrderItemJpaEntity from(OrderItem orderItem, OrderJpaEntity orderJpaEntity) {
-    return new OrderItemJpaEntity(orderItem.getId(), orderJpaEntity,
-        ProductJpaEntity.from(orderItem.getProduct()),
+    // an item can only reference a product that exists
+    final var product = ProductJpaEntity.from(orderItem.getProduct());
+    product.markStored();
+    return new OrderItemJpaEntity(orderItem.getId(), orderJpaEntity, product,
         orderItem.getAmount());
   }
 
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostPersist
+  @PostLoad
+  public void markStored() {
+    this.isNew = false;
+  }
+
   @Override
   public boolean equals(Object object) {
     if (this == object) {
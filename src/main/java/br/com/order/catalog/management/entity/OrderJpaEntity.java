@@ -1,11 +1,14 @@
 package br.com.order.catalog.management.entity;
 
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.domain.order.OrderStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
-import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -13,23 +16,43 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "orders")
-public class OrderJpaEntity {
+public class OrderJpaEntity implements Persistable<UUID> {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
   private UUID id;
 
   @NotNull(message = "Status is required")
   @Enumerated(EnumType.STRING)
   private OrderStatus status;
 
+  // the items of a whole page of orders are initialized by one select
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 100)
   private List<OrderItemJpaEntity> items;
 
   @Min(value = 0, message = "Discount must be greater than or equal to zero")
   private Integer discount;
 
-  private BigDecimal total;
+  private Money total;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(nullable = false)
+  private Instant updatedAt;
+
+  // checked and incremented by every update, which fails when another one came in between
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
+  /**
+   * Whether this order was never stored. Its id is assigned by the domain, so Spring Data cannot
+   * tell from the id and would merge a new order, selecting it and every item before inserting
+   * them; the mapper clears the flag for orders that are already stored.
+   */
+  @Transient
+  private boolean isNew = true;
 
   public UUID getId() {
     return id;
@@ -64,14 +87,49 @@ public class OrderJpaEntity {
     this.discount = discount;
   }
 
-  public BigDecimal getTotal() {
+  public Money getTotal() {
     return total;
   }
 
-  public void setTotal(BigDecimal total) {
+  public void setTotal(Money total) {
     this.total = total;
   }
 
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostPersist
+  @PostLoad
+  public void markStored() {
+    this.isNew = false;
+  }
+
   @Override
   public boolean equals(Object object) {
     if (this == object) {
@@ -0,0 +1,19 @@
+package br.com.order.catalog.management.entity;
+
+import org.hibernate.Interceptor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Lets Hibernate ask {@link Persistable} entities whether they are new, as Spring Data does.
+ *
+ * <p>Ids are assigned by the domain, so Hibernate cannot tell a detached entity from a transient
+ * one by its id: when an order item referencing a product built from the domain is persisted, it
+ * would select the product to learn whether it exists.
+ */
+public class PersistableInterceptor implements Interceptor {
+
+  @Override
+  public Boolean isTransient(Object entity) {
+    return entity instanceof Persistable<?> persistable ? persistable.isNew() : null;
+  }
+}
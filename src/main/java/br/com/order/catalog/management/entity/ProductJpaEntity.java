@@ -1,5 +1,6 @@
 package br.com.order.catalog.management.entity;
 
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.domain.product.ProductType;
 
@@ -7,17 +8,23 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
 
-import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
 @Entity
 @Table(name = "products")
-public class ProductJpaEntity {
+@BatchSize(size = 100)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "products")
+public class ProductJpaEntity implements Persistable<UUID> {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
   private UUID id;
 
   @NotBlank(message = "Product name is required")
@@ -25,7 +32,7 @@ public class ProductJpaEntity {
 
   @NotNull(message = "Product price is required")
   @Positive(message = "Product price must be positive")
-  private BigDecimal price;
+  private Money price;
 
   @Enumerated(EnumType.STRING)
   @NotNull(message = "Product type is required")
@@ -35,10 +42,25 @@ public class ProductJpaEntity {
   @NotNull(message = "Product active is required")
   private Boolean active;
 
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(nullable = false)
+  private Instant updatedAt;
+
+  // checked and incremented by every update, which fails when another one came in between
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
+  // cleared once loaded or persisted, and by the mapper for products that are already stored
+  @Transient
+  private boolean isNew = true;
+
   public ProductJpaEntity() {
   }
 
-  public ProductJpaEntity(UUID id, String name, BigDecimal price, ProductType type,
+  public ProductJpaEntity(UUID id, String name, Money price, ProductType type,
       Boolean active) {
     this.id = id;
     this.name = name;
@@ -48,13 +70,17 @@ public class ProductJpaEntity {
   }
 
   public static ProductJpaEntity from(Product product) {
-    return new ProductJpaEntity(
+    final var productJpaEntity = new ProductJpaEntity(
         product.getId(),
         product.getName(),
         product.getPrice(),
         product.getType(),
         product.isActive()
     );
+    productJpaEntity.setCreatedAt(product.getCreatedAt());
+    productJpaEntity.setUpdatedAt(product.getUpdatedAt());
+    productJpaEntity.setVersion(product.getVersion());
+    return productJpaEntity;
   }
 
   public UUID getId() {
@@ -73,11 +99,11 @@ public class ProductJpaEntity {
     this.name = name;
   }
 
-  public BigDecimal getPrice() {
+  public Money getPrice() {
     return price;
   }
 
-  public void setPrice(BigDecimal price) {
+  public void setPrice(Money price) {
     this.price = price;
   }
 
@@ -97,6 +123,41 @@ public class ProductJpaEntity {
     this.active = active;
   }
 
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Instant getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(Instant updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostPersist
+  @PostLoad
+  public void markStored() {
+    this.isNew = false;
+  }
+
   @Override
   public boolean equals(Object object) {
     if (this == object) {
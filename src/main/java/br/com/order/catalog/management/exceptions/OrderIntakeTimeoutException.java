@@ -0,0 +1,14 @@
+package br.com.order.catalog.management.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class OrderIntakeTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public OrderIntakeTimeoutException(String message) {
+        super(message);
+    }
+}
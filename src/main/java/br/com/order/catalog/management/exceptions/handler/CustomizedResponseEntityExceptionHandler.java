@@ -1,9 +1,15 @@
 package br.com.order.catalog.management.exceptions.handler;
 
+import br.com.order.catalog.management.exceptions.BatchTooLargeException;
 import br.com.order.catalog.management.exceptions.ExceptionResponse;
+import br.com.order.catalog.management.exceptions.InvalidCursorException;
 import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
+import br.com.order.catalog.management.exceptions.InvalidPatchException;
+import br.com.order.catalog.management.exceptions.OrderIntakeTimeoutException;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
 import br.com.order.catalog.management.exceptions.ProductLinkedToOrderException;
 import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
+import br.com.order.catalog.management.exceptions.VersionConflictException;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -46,6 +52,48 @@ public class CustomizedResponseEntityExceptionHandler extends ResponseEntityExce
         return new ResponseEntity<>(exceptionResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public final ResponseEntity<ExceptionResponse> handleInvalidCursorException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(BatchTooLargeException.class)
+    public final ResponseEntity<ExceptionResponse> handleBatchTooLargeException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
+    @ExceptionHandler(InvalidPatchException.class)
+    public final ResponseEntity<ExceptionResponse> handleInvalidPatchException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(OrderIntakeTimeoutException.class)
+    public final ResponseEntity<ExceptionResponse> handleOrderIntakeTimeoutException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public final ResponseEntity<ExceptionResponse> handlePreconditionFailedException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(VersionConflictException.class)
+    public final ResponseEntity<ExceptionResponse> handleVersionConflictException(Exception ex, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(), request.getDescription(false));
+
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.CONFLICT);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
 
@@ -0,0 +1,20 @@
+package br.com.order.catalog.management.mapper;
+
+import br.com.order.catalog.management.domain.Money;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Conversions between {@link Money} and the {@link BigDecimal} amounts used by the REST models,
+ * picked up by MapStruct in every mapper that extends this interface.
+ */
+public interface MoneyMapping {
+
+  default Money toMoney(BigDecimal amount) {
+    return Objects.nonNull(amount) ? Money.of(amount) : null;
+  }
+
+  default BigDecimal toBigDecimal(Money money) {
+    return Objects.nonNull(money) ? money.toBigDecimal() : null;
+  }
+}
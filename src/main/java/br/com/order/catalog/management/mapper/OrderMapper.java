@@ -8,18 +8,35 @@ import br.com.order.catalog.management.domain.order.OrderItem;
 import br.com.order.catalog.management.domain.order.PreOrderItem;
 import br.com.order.catalog.management.entity.OrderItemJpaEntity;
 import br.com.order.catalog.management.entity.OrderJpaEntity;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
-public interface OrderMapper {
+public interface OrderMapper extends MoneyMapping {
 
   Order toDomain(OrderJpaEntity orderEntityJpa);
 
   OrderResponse toResponse(Order order);
 
+  /**
+   * Entity of an order that is already stored, which saving merges.
+   */
   default OrderJpaEntity toEntity(Order order) {
+    final var orderJpaEntity = toNewEntity(order);
+    orderJpaEntity.markStored();
+    orderJpaEntity.getItems().forEach(OrderItemJpaEntity::markStored);
+    return orderJpaEntity;
+  }
+
+  /**
+   * Entity of an order that was never stored, which saving inserts with its items without
+   * selecting them first.
+   */
+  default OrderJpaEntity toNewEntity(Order order) {
     final var orderJpaEntity = new OrderJpaEntity();
     final var orderItemJpaEntities = getOrderItemJpaEntities(order, orderJpaEntity);
     orderJpaEntity.setId(order.getId());
@@ -27,9 +44,45 @@ public interface OrderMapper {
     orderJpaEntity.setStatus(order.getStatus());
     orderJpaEntity.setItems(orderItemJpaEntities);
     orderJpaEntity.setTotal(order.getTotal());
+    orderJpaEntity.setCreatedAt(order.getCreatedAt());
+    orderJpaEntity.setUpdatedAt(order.getUpdatedAt());
+    orderJpaEntity.setVersion(order.getVersion());
     return orderJpaEntity;
   }
 
+  /**
+   * Applies {@code order} to the managed {@code orderJpaEntity}. Items are matched by id: the
+   * kept ones are changed in place, so only the lines that differ are updated, the new ones are
+   * added and the ones left out removed, which deletes them.
+   */
+  default void updateEntity(Order order, OrderJpaEntity orderJpaEntity) {
+    patchEntity(order, orderJpaEntity);
+
+    final var itemsById = new HashMap<UUID, OrderItem>();
+    order.getItems().forEach(item -> itemsById.put(item.getId(), item));
+    final var itemJpaEntities = orderJpaEntity.getItems();
+    itemJpaEntities.removeIf(itemJpaEntity -> !itemsById.containsKey(itemJpaEntity.getId()));
+    for (final OrderItemJpaEntity itemJpaEntity : itemJpaEntities) {
+      final var item = itemsById.remove(itemJpaEntity.getId());
+      if (!Objects.equals(itemJpaEntity.getAmount(), item.getAmount())) {
+        itemJpaEntity.setAmount(item.getAmount());
+      }
+    }
+    itemsById.values().forEach(
+        item -> itemJpaEntities.add(OrderItemJpaEntity.from(item, orderJpaEntity)));
+  }
+
+  /**
+   * Applies the status, discount, total and update time of {@code order} to the managed
+   * {@code orderJpaEntity}, leaving its items as they are, so only the order row is updated.
+   */
+  default void patchEntity(Order order, OrderJpaEntity orderJpaEntity) {
+    orderJpaEntity.setStatus(order.getStatus());
+    orderJpaEntity.setDiscount(order.getDiscount());
+    orderJpaEntity.setTotal(order.getTotal());
+    orderJpaEntity.setUpdatedAt(order.getUpdatedAt());
+  }
+
   private static List<OrderItemJpaEntity> getOrderItemJpaEntities(Order order,
       OrderJpaEntity orderJpaEntity) {
     return order.getItems().stream()
@@ -7,16 +7,30 @@ import br.com.order.catalog.management.entity.ProductJpaEntity;
 import org.mapstruct.Mapper;
 
 @Mapper(componentModel = "spring")
-public interface ProductMapper {
+public interface ProductMapper extends MoneyMapping {
 
-  ProductJpaEntity toEntity(Product product);
+  /**
+   * Entity of a product that is already stored, which saving merges.
+   */
+  default ProductJpaEntity toEntity(Product product) {
+    final var productJpaEntity = ProductJpaEntity.from(product);
+    productJpaEntity.markStored();
+    return productJpaEntity;
+  }
+
+  /**
+   * Entity of a product that was never stored, which saving inserts without selecting it first.
+   */
+  default ProductJpaEntity toNewEntity(Product product) {
+    return ProductJpaEntity.from(product);
+  }
 
   Product toDomain(ProductJpaEntity jpaEntity);
 
   default Product toDomain(CreateProductRequest request) {
     final var name = request.name();
     final var type = request.type();
-    final var price = request.price();
+    final var price = toMoney(request.price());
     final var active = request.active();
     return Product.newProduct(name, price, type, active);
   }
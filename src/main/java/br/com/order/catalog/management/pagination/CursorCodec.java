@@ -0,0 +1,153 @@
+package br.com.order.catalog.management.pagination;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.exceptions.InvalidCursorException;
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+/**
+ * Encodes keyset positions as opaque cursors.
+ *
+ * <p>A cursor carries the sort it was produced for plus the sort key and id of the last element
+ * of a window, so the next window is a seek ({@code where (key, id) > (:key, :id)}) instead of an
+ * offset. Each resource declares the properties it can be scrolled by and how to read their
+ * values back; the id is always the last sort key, which keeps the order total.
+ */
+public final class CursorCodec {
+
+  private static final String ID = "id";
+
+  private static final String SORT = "sort";
+
+  private static final int MAX_WINDOW_SIZE = 100;
+
+  private static final Function<String, Object> MONEY = value -> Money.of(new BigDecimal(value));
+
+  public static final CursorCodec ORDERS = new CursorCodec(
+      Map.of(ID, UUID::fromString, "total", MONEY));
+
+  public static final CursorCodec PRODUCTS = new CursorCodec(
+      Map.of(ID, UUID::fromString, "name", value -> value, "price", MONEY));
+
+  private final Map<String, Function<String, Object>> keyParsers;
+
+  private CursorCodec(Map<String, Function<String, Object>> keyParsers) {
+    this.keyParsers = keyParsers;
+  }
+
+  /**
+   * Clamps a requested window size to {@code [1, 100]}.
+   */
+  public static int windowSize(int size) {
+    return Math.max(1, Math.min(size, MAX_WINDOW_SIZE));
+  }
+
+  /**
+   * Sort and position of the first window for a {@code property[,asc|desc]} sort parameter.
+   */
+  public Cursor first(String sort) {
+    return new Cursor(parseSort(sort), ScrollPosition.keyset());
+  }
+
+  public Cursor decode(String cursor) {
+    final String decoded;
+    try {
+      decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidCursorException("Malformed cursor");
+    }
+
+    final var values = new LinkedHashMap<String, String>();
+    for (final String pair : decoded.split("&")) {
+      final var separator = pair.indexOf('=');
+      if (separator < 0) {
+        throw new InvalidCursorException("Malformed cursor");
+      }
+      values.put(pair.substring(0, separator),
+          URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+    }
+
+    final var sort = parseSort(values.remove(SORT));
+    final var keys = new LinkedHashMap<String, Object>();
+    for (final String property : new String[]{sortProperty(sort), ID}) {
+      if (keys.containsKey(property)) {
+        continue;
+      }
+      final var value = values.remove(property);
+      if (Objects.isNull(value)) {
+        throw new InvalidCursorException("Malformed cursor");
+      }
+      keys.put(property, parse(property, value));
+    }
+    if (!values.isEmpty()) {
+      throw new InvalidCursorException("Malformed cursor");
+    }
+    return new Cursor(sort, ScrollPosition.forward(keys));
+  }
+
+  /**
+   * Wraps a window in a {@link CursorPage} whose {@code next} cursor points after its last
+   * element.
+   */
+  public <T> CursorPage<T> toPage(Window<T> window, Sort sort) {
+    if (!window.hasNext() || window.isEmpty()) {
+      return new CursorPage<>(window.getContent(), null);
+    }
+    final var position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+    return new CursorPage<>(window.getContent(), encode(sort, position));
+  }
+
+  private String encode(Sort sort, KeysetScrollPosition position) {
+    final var order = sort.iterator().next();
+    final var encoded = new StringBuilder(SORT).append('=')
+        .append(order.getProperty()).append(',').append(order.getDirection().name().toLowerCase());
+    position.getKeys().forEach((key, value) -> encoded.append('&').append(key).append('=')
+        .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8)));
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(encoded.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Sort parseSort(String sort) {
+    if (Objects.isNull(sort) || sort.isBlank()) {
+      return Sort.by(ID);
+    }
+    final var parts = sort.split(",");
+    final var property = parts[0].trim();
+    if (!keyParsers.containsKey(property) || parts.length > 2) {
+      throw new InvalidCursorException("Unsupported sort: " + sort);
+    }
+    final var direction = parts.length == 2
+        ? Sort.Direction.fromOptionalString(parts[1].trim())
+            .orElseThrow(() -> new InvalidCursorException("Unsupported sort: " + sort))
+        : Sort.Direction.ASC;
+    return Sort.by(direction, property);
+  }
+
+  private static String sortProperty(Sort sort) {
+    return sort.iterator().next().getProperty();
+  }
+
+  private Object parse(String property, String value) {
+    try {
+      return keyParsers.get(property).apply(value);
+    } catch (RuntimeException ex) {
+      throw new InvalidCursorException("Malformed cursor");
+    }
+  }
+
+  public record Cursor(Sort sort, KeysetScrollPosition position) {
+
+  }
+}
@@ -0,0 +1,14 @@
+package br.com.order.catalog.management.pagination;
+
+import java.util.List;
+
+/**
+ * A window of a keyset-paginated listing. {@code next} is the opaque cursor of the following
+ * window, or {@code null} on the last one.
+ */
+public record CursorPage<T>(
+    List<T> content,
+    String next
+) {
+
+}
@@ -0,0 +1,25 @@
+package br.com.order.catalog.management.pagination;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.OptionalLong;
+import org.springframework.data.domain.Slice;
+
+/**
+ * A page of a listing that is not counted: {@code hasNext} is known from one look-ahead row.
+ * {@code approximateTotal} comes from the database statistics and is only present when it was
+ * asked for and the listing is not filtered.
+ */
+public record SlicePage<T>(
+    List<T> content,
+    int page,
+    int size,
+    boolean hasNext,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long approximateTotal
+) {
+
+  public static <T> SlicePage<T> of(Slice<T> slice, OptionalLong approximateTotal) {
+    return new SlicePage<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(),
+        approximateTotal.isPresent() ? approximateTotal.getAsLong() : null);
+  }
+}
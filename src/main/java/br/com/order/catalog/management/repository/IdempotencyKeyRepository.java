@@ -0,0 +1,32 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.entity.IdempotencyKeyJpaEntity;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+
+  /**
+   * Claims {@code key} for the order {@code orderId}; 0 when the key was already claimed. A claim
+   * by a transaction that is still running is waited for, and wins once it commits.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = """
+      INSERT INTO idempotency_keys (idempotency_key, order_id, created_at)
+      VALUES (:key, :orderId, :createdAt)
+      ON CONFLICT (idempotency_key) DO NOTHING""")
+  int claim(String key, UUID orderId, Instant createdAt);
+
+  /**
+   * Deletes the keys claimed before {@code createdBefore}, through the index on their creation
+   * time; returns how many were deleted.
+   */
+  @Modifying
+  @Query("delete from IdempotencyKeyJpaEntity k where k.createdAt < :createdBefore")
+  int deleteCreatedBefore(Instant createdBefore);
+}
@@ -1,14 +1,65 @@
 package br.com.order.catalog.management.repository;
 
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.entity.OrderJpaEntity;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<OrderJpaEntity, UUID>, JpaSpecificationExecutor<OrderJpaEntity> {
+public interface OrderRepository extends JpaRepository<OrderJpaEntity, UUID>, JpaSpecificationExecutor<OrderJpaEntity>,
+    OrderRepositoryCustom {
+
+  /**
+   * Loads the order, its items and their products in a single joined select.
+   */
+  @Override
+  @EntityGraph(attributePaths = {"items", "items.product"})
+  Optional<OrderJpaEntity> findById(UUID id);
+
+  /**
+   * Order created with the {@code Idempotency-Key} {@code key}, with its items and their products,
+   * in a single select joining the key by its primary key.
+   */
+  @EntityGraph(attributePaths = {"items", "items.product"})
+  @Query("""
+      select o
+      from OrderJpaEntity o
+      join IdempotencyKeyJpaEntity k on k.orderId = o.id
+      where k.key = :key""")
+  Optional<OrderJpaEntity> findByIdempotencyKey(String key);
+
+  /**
+   * Version of the order and last change to it or to any product of its items, without loading
+   * the aggregate.
+   */
+  @Query("""
+      select new br.com.order.catalog.management.domain.Revision(
+          o.version, greatest(o.updatedAt, coalesce(max(p.updatedAt), o.updatedAt)))
+      from OrderJpaEntity o
+      left join o.items i
+      left join i.product p
+      where o.id = :id
+      group by o.id, o.updatedAt, o.version""")
+  Optional<Revision> findRevisionById(UUID id);
+
+  /**
+   * Seeks the {@code limit} orders after {@code position} in {@code sort} order, the id breaking
+   * ties, instead of skipping an offset.
+   */
+  default Window<OrderJpaEntity> scroll(Specification<OrderJpaEntity> specification, Sort sort,
+      KeysetScrollPosition position, int limit) {
+    return findBy(specification, query -> query.sortBy(sort).limit(limit).scroll(position));
+  }
 }
@@ -0,0 +1,43 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.entity.OrderJpaEntity;
+import java.util.List;
+import java.util.OptionalLong;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface OrderRepositoryCustom {
+
+  /**
+   * Pages orders with their items and products loaded.
+   *
+   * <p>The page is resolved on ids only, so filtering, sorting and limiting happen in the
+   * database; only the ids of that page are then loaded with their items and products in one
+   * fetch-joined select. A collection fetch join is never combined with a limit, which would make
+   * Hibernate read the whole result and paginate in memory.
+   */
+  Page<OrderJpaEntity> findPageWithItems(Specification<OrderJpaEntity> specification,
+      Pageable pageable);
+
+  /**
+   * Like {@link #findPageWithItems} without the count: one id more than the page size is read to
+   * tell whether a next slice exists.
+   */
+  Slice<OrderJpaEntity> findSliceWithItems(Specification<OrderJpaEntity> specification,
+      Pageable pageable);
+
+  /**
+   * Inserts new orders with their items. The persistence context is flushed and cleared every 500
+   * orders, so the inserts leave as JDBC batches of {@code hibernate.jdbc.batch_size} statements
+   * and the context does not grow with the batch.
+   * Unlike {@code saveAll}, no select is issued to tell whether an order is new.
+   */
+  void insertAll(List<OrderJpaEntity> orders);
+
+  /**
+   * Number of orders estimated by the database statistics, without scanning the table.
+   */
+  OptionalLong estimatedCount();
+}
@@ -0,0 +1,125 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.entity.OrderJpaEntity;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+  private static final String TABLE = "orders";
+
+  static final int FLUSH_INTERVAL = 500;
+
+  private final EntityManager entityManager;
+
+  OrderRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Page<OrderJpaEntity> findPageWithItems(Specification<OrderJpaEntity> specification,
+      Pageable pageable) {
+    final var ids = findIds(specification, pageable, false);
+    final var orders = findAllWithItemsById(ids);
+    return PageableExecutionUtils.getPage(orders, pageable, () -> count(specification));
+  }
+
+  @Override
+  public Slice<OrderJpaEntity> findSliceWithItems(Specification<OrderJpaEntity> specification,
+      Pageable pageable) {
+    final var ids = RepositoryQueries.toSlice(
+        findIds(specification, pageable, true), pageable);
+    return new SliceImpl<>(findAllWithItemsById(ids.getContent()), pageable, ids.hasNext());
+  }
+
+  @Override
+  public void insertAll(List<OrderJpaEntity> orders) {
+    for (int i = 0; i < orders.size(); i++) {
+      entityManager.persist(orders.get(i));
+      if ((i + 1) % FLUSH_INTERVAL == 0) {
+        entityManager.flush();
+        entityManager.clear();
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Override
+  public OptionalLong estimatedCount() {
+    return RepositoryQueries.estimatedRowCount(entityManager, TABLE);
+  }
+
+  /**
+   * Ids of the requested page, plus one look-ahead row for a slice when {@code lookAhead}; an
+   * unpaged request reads them all.
+   */
+  private List<UUID> findIds(Specification<OrderJpaEntity> specification, Pageable pageable,
+      boolean lookAhead) {
+    final var criteriaBuilder = entityManager.getCriteriaBuilder();
+    final var query = criteriaBuilder.createQuery(UUID.class);
+    final var root = query.from(OrderJpaEntity.class);
+    query.select(root.get(RepositoryQueries.ID));
+    RepositoryQueries.applySpecification(specification, root, query, criteriaBuilder);
+    query.orderBy(QueryUtils.toOrders(RepositoryQueries.withIdTieBreaker(pageable.getSort()), root,
+        criteriaBuilder));
+
+    final var typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+      typedQuery.setMaxResults(
+          lookAhead ? RepositoryQueries.sliceLimit(pageable) : pageable.getPageSize());
+    }
+    return typedQuery.getResultList();
+  }
+
+  private List<OrderJpaEntity> findAllWithItemsById(List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    final var orders = entityManager.createQuery("""
+            select distinct o from OrderJpaEntity o
+            left join fetch o.items i
+            left join fetch i.product
+            where o.id in :ids""", OrderJpaEntity.class)
+        .setParameter("ids", ids)
+        .getResultList();
+    return inIdOrder(ids, orders);
+  }
+
+  private long count(Specification<OrderJpaEntity> specification) {
+    final var criteriaBuilder = entityManager.getCriteriaBuilder();
+    final var query = criteriaBuilder.createQuery(Long.class);
+    final var root = query.from(OrderJpaEntity.class);
+    query.select(criteriaBuilder.count(root));
+    RepositoryQueries.applySpecification(specification, root, query, criteriaBuilder);
+    return entityManager.createQuery(query).getSingleResult();
+  }
+
+  private static List<OrderJpaEntity> inIdOrder(List<UUID> ids,
+      Collection<OrderJpaEntity> orders) {
+    final var ordersById = new HashMap<UUID, OrderJpaEntity>(orders.size() * 2);
+    orders.forEach(order -> ordersById.put(order.getId(), order));
+    final var sorted = new ArrayList<OrderJpaEntity>(ids.size());
+    for (final UUID id : ids) {
+      final var order = ordersById.get(id);
+      if (Objects.nonNull(order)) {
+        sorted.add(order);
+      }
+    }
+    return sorted;
+  }
+}
@@ -1,14 +1,36 @@
 package br.com.order.catalog.management.repository;
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.entity.ProductJpaEntity;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProductRepository extends JpaRepository<ProductJpaEntity, UUID>, JpaSpecificationExecutor<ProductJpaEntity> {
+public interface ProductRepository extends JpaRepository<ProductJpaEntity, UUID>, JpaSpecificationExecutor<ProductJpaEntity>,
+    ProductRepositoryCustom {
 
+  @Query("""
+      select new br.com.order.catalog.management.domain.Revision(p.version, p.updatedAt)
+      from ProductJpaEntity p
+      where p.id = :id""")
+  Optional<Revision> findRevisionById(UUID id);
+
+  /**
+   * Seeks the {@code limit} products after {@code position} in {@code sort} order, the id
+   * breaking ties, instead of skipping an offset.
+   */
+  default Window<ProductJpaEntity> scroll(Specification<ProductJpaEntity> specification,
+      Sort sort, KeysetScrollPosition position, int limit) {
+    return findBy(specification, query -> query.sortBy(sort).limit(limit).scroll(position));
+  }
 }
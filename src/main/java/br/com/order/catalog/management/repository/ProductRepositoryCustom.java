@@ -0,0 +1,51 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ProductRepositoryCustom {
+
+  /**
+   * Slices products without counting them: one row more than the page size is read to tell
+   * whether a next slice exists.
+   */
+  Slice<ProductJpaEntity> findSlice(Specification<ProductJpaEntity> specification,
+      Pageable pageable);
+
+  /**
+   * Number of products estimated by the database statistics, without scanning the table.
+   */
+  OptionalLong estimatedCount();
+
+  /**
+   * Inserts or updates by id every product of {@code products}, streaming them to the database
+   * with {@code COPY} as they are consumed, and evicts the products from the second-level cache.
+   * Returns the number of rows written.
+   */
+  long upsertAll(Stream<ProductJpaEntity> products);
+
+  /**
+   * Writes every column of the product {@code id} but its creation time in a single
+   * {@code UPDATE ... RETURNING}, incrementing its version, and returns the product as stored.
+   * When {@code expectedVersion} is not null only that version is updated. Empty when no row
+   * matched, because the product does not exist or is at another version. The product is
+   * evicted from the second-level cache and the persistence context.
+   */
+  Optional<ProductJpaEntity> updateById(UUID id, String name, Money price, ProductType type,
+      Boolean active, Instant updatedAt, Long expectedVersion);
+
+  /**
+   * Deletes the product {@code id} in a single {@code DELETE ... RETURNING}, evicting it like
+   * {@link #updateById}; false when it does not exist.
+   */
+  boolean deleteIfExists(UUID id);
+}
@@ -0,0 +1,132 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+class ProductRepositoryImpl implements ProductRepositoryCustom {
+
+  private static final String TABLE = "products";
+
+  private static final String UPDATE_RETURNING = """
+      UPDATE products
+      SET name = :name, price = :price, type = :type, active = :active, updated_at = :updatedAt,
+          version = version + 1
+      WHERE id = :id AND version = COALESCE(:version, version)
+      RETURNING id, name, price, type, active, created_at, updated_at, version""";
+
+  private static final String DELETE_RETURNING = "DELETE FROM products WHERE id = :id RETURNING id";
+
+  private final EntityManager entityManager;
+
+  ProductRepositoryImpl(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  public Slice<ProductJpaEntity> findSlice(Specification<ProductJpaEntity> specification,
+      Pageable pageable) {
+    final var criteriaBuilder = entityManager.getCriteriaBuilder();
+    final var query = criteriaBuilder.createQuery(ProductJpaEntity.class);
+    final var root = query.from(ProductJpaEntity.class);
+    query.select(root);
+    RepositoryQueries.applySpecification(specification, root, query, criteriaBuilder);
+    query.orderBy(QueryUtils.toOrders(RepositoryQueries.withIdTieBreaker(pageable.getSort()),
+        root, criteriaBuilder));
+
+    final var typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+      typedQuery.setMaxResults(RepositoryQueries.sliceLimit(pageable));
+    }
+    return RepositoryQueries.toSlice(typedQuery.getResultList(), pageable);
+  }
+
+  @Override
+  public OptionalLong estimatedCount() {
+    return RepositoryQueries.estimatedRowCount(entityManager, TABLE);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Optional<ProductJpaEntity> updateById(UUID id, String name, Money price,
+      ProductType type, Boolean active, Instant updatedAt, Long expectedVersion) {
+    // run as a query to read what RETURNING gives back
+    final List<Object[]> rows = entityManager.createNativeQuery(UPDATE_RETURNING)
+        .unwrap(NativeQuery.class)
+        .setParameter("id", id)
+        .setParameter("name", name)
+        .setParameter("price", price.toBigDecimal())
+        .setParameter("type", type.name())
+        .setParameter("active", active)
+        .setParameter("updatedAt", updatedAt)
+        // typed, so a null version is still bound as a bigint
+        .setParameter("version", expectedVersion, Long.class)
+        .addScalar("id", UUID.class)
+        .addScalar("name", String.class)
+        .addScalar("price", BigDecimal.class)
+        .addScalar("type", String.class)
+        .addScalar("active", Boolean.class)
+        .addScalar("created_at", Instant.class)
+        .addScalar("updated_at", Instant.class)
+        .addScalar("version", Long.class)
+        .getResultList();
+    evict(id);
+    return rows.stream().findFirst().map(ProductRepositoryImpl::toEntity);
+  }
+
+  @Override
+  public boolean deleteIfExists(UUID id) {
+    final var deleted = !entityManager.createNativeQuery(DELETE_RETURNING)
+        .setParameter("id", id)
+        .getResultList()
+        .isEmpty();
+    evict(id);
+    return deleted;
+  }
+
+  /**
+   * Drops what Hibernate holds of the product {@code id}, which a native statement changed
+   * behind its back; {@code getReference} hands out the managed instance, or an uninitialized
+   * proxy, without reading the database.
+   */
+  private void evict(UUID id) {
+    entityManager.detach(entityManager.getReference(ProductJpaEntity.class, id));
+    entityManager.getEntityManagerFactory().getCache().evict(ProductJpaEntity.class, id);
+  }
+
+  private static ProductJpaEntity toEntity(Object[] row) {
+    final var product = new ProductJpaEntity((UUID) row[0], (String) row[1],
+        Money.of((BigDecimal) row[2]), ProductType.valueOf((String) row[3]), (Boolean) row[4]);
+    product.setCreatedAt((Instant) row[5]);
+    product.setUpdatedAt((Instant) row[6]);
+    product.setVersion((Long) row[7]);
+    product.markStored();
+    return product;
+  }
+
+  @Override
+  public long upsertAll(Stream<ProductJpaEntity> products) {
+    // the rows bypass the persistence context, which must not keep stale copies of them
+    entityManager.flush();
+    final long upserted = entityManager.unwrap(Session.class)
+        .doReturningWork(connection -> ProductUpsert.upsertAll(connection, products));
+    entityManager.clear();
+    entityManager.getEntityManagerFactory().getCache().evict(ProductJpaEntity.class);
+    return upserted;
+  }
+}
@@ -0,0 +1,120 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Upserts a stream of products through {@code COPY}: the rows are streamed as CSV into a
+ * temporary staging table dropped at commit, then merged into {@code products} by id with a
+ * single {@code INSERT ... ON CONFLICT}. When an id is repeated, its last row wins.
+ */
+final class ProductUpsert {
+
+  private static final String CREATE_STAGING = """
+      CREATE TEMPORARY TABLE IF NOT EXISTS products_import (
+          line BIGINT NOT NULL,
+          id UUID NOT NULL,
+          name VARCHAR(255) NOT NULL,
+          price DECIMAL(19, 2) NOT NULL,
+          type VARCHAR(255) NOT NULL,
+          active BOOLEAN NOT NULL,
+          created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+          updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+      ) ON COMMIT DROP""";
+
+  private static final String COPY = """
+      COPY products_import (line, id, name, price, type, active, created_at, updated_at)
+      FROM STDIN (FORMAT csv)""";
+
+  private static final String UPSERT = """
+      INSERT INTO products (id, name, price, type, active, created_at, updated_at)
+      SELECT DISTINCT ON (id) id, name, price, type, active, created_at, updated_at
+      FROM products_import
+      ORDER BY id, line DESC
+      ON CONFLICT (id) DO UPDATE SET
+          name = excluded.name,
+          price = excluded.price,
+          type = excluded.type,
+          active = excluded.active,
+          updated_at = excluded.updated_at,
+          version = products.version + 1""";
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private ProductUpsert() {
+  }
+
+  /**
+   * Number of products inserted or updated; {@code products} is consumed as it is copied.
+   */
+  static long upsertAll(Connection connection, Stream<ProductJpaEntity> products)
+      throws SQLException {
+    try (var statement = connection.createStatement()) {
+      statement.execute(CREATE_STAGING);
+      statement.execute("TRUNCATE products_import");
+    }
+    copy(connection, products.iterator());
+    try (var statement = connection.createStatement()) {
+      return statement.executeLargeUpdate(UPSERT);
+    }
+  }
+
+  private static void copy(Connection connection, Iterator<ProductJpaEntity> products)
+      throws SQLException {
+    final var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY);
+    try (var writer = new BufferedWriter(new OutputStreamWriter(
+        new PGCopyOutputStream(copyIn), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+      long line = 0;
+      while (products.hasNext()) {
+        writeRow(writer, ++line, products.next());
+      }
+    } catch (IOException | UncheckedIOException ex) {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+      throw new SQLException("Could not copy the products", ex);
+    }
+  }
+
+  private static void writeRow(BufferedWriter writer, long line, ProductJpaEntity product)
+      throws IOException {
+    writer.write(Long.toString(line));
+    writer.write(',');
+    writer.write(product.getId().toString());
+    writer.write(',');
+    writeQuoted(writer, product.getName());
+    writer.write(',');
+    writer.write(product.getPrice().toBigDecimal().toPlainString());
+    writer.write(',');
+    writer.write(product.getType().name());
+    writer.write(',');
+    writer.write(product.isActive().toString());
+    writer.write(',');
+    writer.write(product.getCreatedAt().toString());
+    writer.write(',');
+    writer.write(product.getUpdatedAt().toString());
+    writer.write('\n');
+  }
+
+  private static void writeQuoted(BufferedWriter writer, String value) throws IOException {
+    writer.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      final var c = value.charAt(i);
+      if (c == '"') {
+        writer.write('"');
+      }
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+}
@@ -0,0 +1,80 @@
+package br.com.order.catalog.management.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Pieces shared by the custom repository fragments.
+ */
+final class RepositoryQueries {
+
+  static final String ID = "id";
+
+  private RepositoryQueries() {
+  }
+
+  static <T> void applySpecification(Specification<T> specification, Root<T> root,
+      CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+    if (Objects.isNull(specification)) {
+      return;
+    }
+    final var predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if (Objects.nonNull(predicate)) {
+      query.where(predicate);
+    }
+  }
+
+  /**
+   * Sorts by id last so the page boundaries are stable when the requested sort has ties.
+   */
+  static Sort withIdTieBreaker(Sort sort) {
+    return Objects.nonNull(sort.getOrderFor(ID)) ? sort : sort.and(Sort.by(ID));
+  }
+
+  /**
+   * Rows to fetch for a slice: one more than the page size, so the extra row tells whether a
+   * next slice exists without counting. Only for a paged request, since an unpaged one has no
+   * page size.
+   */
+  static int sliceLimit(Pageable pageable) {
+    return pageable.getPageSize() + 1;
+  }
+
+  /**
+   * Drops the look-ahead row fetched with {@link #sliceLimit(Pageable)}.
+   */
+  static <T> Slice<T> toSlice(List<T> rows, Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      return new SliceImpl<>(rows, pageable, false);
+    }
+    final var hasNext = rows.size() > pageable.getPageSize();
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable,
+        hasNext);
+  }
+
+  /**
+   * Row count of {@code table} as estimated by the Postgres planner, from {@code pg_class} as of
+   * the last {@code VACUUM}/{@code ANALYZE}; empty when the table was never analyzed.
+   */
+  static OptionalLong estimatedRowCount(EntityManager entityManager, String table) {
+    final var estimates = entityManager.createNativeQuery(
+            "select cast(reltuples as bigint) from pg_class where oid = to_regclass(:table)")
+        .setParameter("table", table)
+        .getResultList();
+    if (estimates.isEmpty()) {
+      return OptionalLong.empty();
+    }
+    final var estimate = ((Number) estimates.get(0)).longValue();
+    return estimate < 0 ? OptionalLong.empty() : OptionalLong.of(estimate);
+  }
+}
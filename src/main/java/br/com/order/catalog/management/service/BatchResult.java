@@ -0,0 +1,24 @@
+package br.com.order.catalog.management.service;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one element of a batch: the created value, or why it was rejected.
+ */
+public record BatchResult<T>(
+    T value,
+    String error
+) {
+
+  public static <T> BatchResult<T> created(T value) {
+    return new BatchResult<>(Objects.requireNonNull(value, "'value' should not be null"), null);
+  }
+
+  public static <T> BatchResult<T> failed(String error) {
+    return new BatchResult<>(null, Objects.requireNonNull(error, "'error' should not be null"));
+  }
+
+  public boolean isFailed() {
+    return Objects.nonNull(error);
+  }
+}
@@ -1,20 +1,41 @@
 package br.com.order.catalog.management.service;
 
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.cache.ListingCache.Listing;
+import br.com.order.catalog.management.cache.ListingCache.Table;
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.domain.order.Order;
 import br.com.order.catalog.management.domain.order.OrderItem;
+import br.com.order.catalog.management.domain.order.OrderPatch;
 import br.com.order.catalog.management.domain.order.PreOrder;
+import br.com.order.catalog.management.domain.order.PreOrderItemIndex;
+import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.entity.OrderJpaEntity;
+import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
 import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
 import br.com.order.catalog.management.mapper.OrderMapper;
+import br.com.order.catalog.management.repository.IdempotencyKeyRepository;
 import br.com.order.catalog.management.repository.OrderRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 
 import br.com.order.catalog.management.specification.OrderSpecification;
 import br.com.order.catalog.management.specification.filter.OrderFilter;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,23 +45,51 @@ public class DefaultOrderService implements OrderService {
 
   private final static String ORDER_NOT_FOUND_MESSAGE = "Order not found";
 
+  private static final String ORDER = "Order";
+
   private final OrderRepository orderRepository;
 
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+
   private final OrderMapper orderMapper;
 
   private final ProductService productService;
 
-  public DefaultOrderService(OrderRepository orderRepository, OrderMapper orderMapper,
-      ProductService productService) {
+  private final ListingCache listingCache;
+
+  public DefaultOrderService(OrderRepository orderRepository,
+      IdempotencyKeyRepository idempotencyKeyRepository, OrderMapper orderMapper,
+      ProductService productService, ListingCache listingCache) {
     this.orderRepository = orderRepository;
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
     this.orderMapper = orderMapper;
     this.productService = productService;
+    this.listingCache = listingCache;
   }
 
+  @Transactional(readOnly = true)
   public Page<Order> getOrders(Pageable pageable, OrderFilter orderFilter) {
     Specification<OrderJpaEntity> specification = Specification.where(OrderSpecification.withStatus(orderFilter));
-    final var pageOrderEntity = orderRepository.findAll(specification, pageable);
-    return pageOrderEntity.map(orderMapper::toDomain);
+    return listingCache.get(Listing.ORDERS, orderFilter.key(), pageable,
+        () -> orderRepository.findPageWithItems(specification, pageable).map(orderMapper::toDomain),
+        Order::copy);
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<Order> getOrderSlice(Pageable pageable, OrderFilter orderFilter) {
+    Specification<OrderJpaEntity> specification = Specification.where(OrderSpecification.withStatus(orderFilter));
+    return orderRepository.findSliceWithItems(specification, pageable).map(orderMapper::toDomain);
+  }
+
+  public OptionalLong estimateOrderCount(OrderFilter orderFilter) {
+    return orderFilter.isEmpty() ? orderRepository.estimatedCount() : OptionalLong.empty();
+  }
+
+  @Transactional(readOnly = true)
+  public Window<Order> scrollOrders(Sort sort, KeysetScrollPosition position, int size,
+      OrderFilter orderFilter) {
+    Specification<OrderJpaEntity> specification = Specification.where(OrderSpecification.withStatus(orderFilter));
+    return orderRepository.scroll(specification, sort, position, size).map(orderMapper::toDomain);
   }
 
   @Transactional
@@ -49,38 +98,177 @@ public class DefaultOrderService implements OrderService {
 
     final var order = Order.newOrder(preOrder.status(), orderItems, preOrder.discount());
 
-    final var orderEntity = orderMapper.toEntity(order);
-    return orderMapper.toDomain(orderRepository.save(orderEntity));
+    return insertOrder(order);
+  }
+
+  @Transactional
+  public Order createOrder(PreOrder preOrder, String idempotencyKey) {
+    // a retry costs this single indexed lookup, and gets the order as it is now
+    final var createdOrder = orderRepository.findByIdempotencyKey(idempotencyKey);
+    if (createdOrder.isPresent()) {
+      return orderMapper.toDomain(createdOrder.get());
+    }
+
+    final var order = Order.newOrder(preOrder.status(), getOrderItems(preOrder),
+        preOrder.discount());
+    // a request with the same key running on another node is waited for, and wins
+    if (idempotencyKeyRepository.claim(idempotencyKey, order.getId(), Order.now()) == 0) {
+      return orderRepository.findByIdempotencyKey(idempotencyKey).map(orderMapper::toDomain)
+          .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND_MESSAGE));
+    }
+    return insertOrder(order);
+  }
+
+  private Order insertOrder(Order order) {
+    final var orderEntity = orderMapper.toNewEntity(order);
+    final var savedOrder = orderRepository.save(orderEntity);
+    listingCache.invalidate(Table.ORDERS);
+    return orderMapper.toDomain(savedOrder);
+  }
+
+  @Transactional
+  public List<BatchResult<Order>> createOrders(List<PreOrder> preOrders) {
+    final var itemIndexes = new PreOrderItemIndex[preOrders.size()];
+    final var errors = new String[preOrders.size()];
+    final var productIds = new HashSet<UUID>();
+    for (int i = 0; i < preOrders.size(); i++) {
+      try {
+        itemIndexes[i] = preOrders.get(i).indexItems();
+        productIds.addAll(itemIndexes[i].ids());
+      } catch (InvalidItemExceptionException | ArithmeticException ex) {
+        errors[i] = ex.getMessage();
+      }
+    }
+    final var productsById = new HashMap<UUID, Product>((int) (productIds.size() / 0.75f) + 1);
+    productService.getProductsById(productIds)
+        .forEach(product -> productsById.put(product.getId(), product));
+
+    final var results = new ArrayList<BatchResult<Order>>(preOrders.size());
+    final var orderEntities = new ArrayList<OrderJpaEntity>(preOrders.size());
+    for (int i = 0; i < preOrders.size(); i++) {
+      if (Objects.nonNull(errors[i])) {
+        results.add(BatchResult.failed(errors[i]));
+        continue;
+      }
+      final var preOrder = preOrders.get(i);
+      try {
+        final var order = Order.newOrder(preOrder.status(),
+            getOrderItems(itemIndexes[i], productsById), preOrder.discount());
+        orderEntities.add(orderMapper.toNewEntity(order));
+        results.add(BatchResult.created(order));
+      } catch (InvalidItemExceptionException | ArithmeticException ex) {
+        results.add(BatchResult.failed(ex.getMessage()));
+      }
+    }
+
+    orderRepository.insertAll(orderEntities);
+    listingCache.invalidate(Table.ORDERS);
+    return results;
   }
 
   @Transactional
-  public Order updateOrder(UUID id, PreOrder preOrder) {
+  public Order updateOrder(UUID id, PreOrder preOrder, ExpectedVersion expectedVersion) {
+
+    final var orderJpaEntity = findOrderAtVersion(id, expectedVersion);
+    final var order = orderMapper.toDomain(orderJpaEntity);
 
     final var newStatus = preOrder.status();
-    final var newOrderItems = getOrderItems(preOrder);
+    final var newOrderItems = getOrderItems(preOrder, order.getItems());
     final var newDiscount = preOrder.discount();
 
-    final var order = getOrderById(id);
-
     order.update(newStatus, newOrderItems, newDiscount);
 
-    final var orderJpaEntity = orderMapper.toEntity(order);
+    // the managed entity is changed in place and written by dirty checking, with an UPDATE
+    // conditional on the version it was read at; flushed here to report a concurrent update
+    orderMapper.updateEntity(order, orderJpaEntity);
+    flushAtVersion(orderJpaEntity, expectedVersion);
+    listingCache.invalidate(Table.ORDERS);
+    return order;
+  }
+
+  @Transactional
+  public Order patchOrder(UUID id, OrderPatch patch, ExpectedVersion expectedVersion) {
+    // the single select of the order reads the lines and products the total is computed from
+    final var orderJpaEntity = findOrderAtVersion(id, expectedVersion);
+    final var order = orderMapper.toDomain(orderJpaEntity);
+
+    order.update(patch.statusOf(order), patch.discountOf(order));
+
+    // the items are left as they are, so the order row is the only one written
+    orderMapper.patchEntity(order, orderJpaEntity);
+    flushAtVersion(orderJpaEntity, expectedVersion);
+    listingCache.invalidate(Table.ORDERS);
+    return order;
+  }
+
+  /**
+   * Order {@code id}, if it is at {@code expectedVersion}. The flush then updates it only if it is
+   * still at the version read here, so the expectation holds for the write itself.
+   */
+  private OrderJpaEntity findOrderAtVersion(UUID id, ExpectedVersion expectedVersion) {
+    final var orderJpaEntity = orderRepository.findById(id)
+        .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND_MESSAGE));
+    expectedVersion.check(ORDER, orderJpaEntity.getVersion());
+    return orderJpaEntity;
+  }
 
-    final var mergedOrder = orderRepository.save(orderJpaEntity);
-    return orderMapper.toDomain(mergedOrder);
+  private void flushAtVersion(OrderJpaEntity orderJpaEntity, ExpectedVersion expectedVersion) {
+    try {
+      orderRepository.flush();
+    } catch (OptimisticLockingFailureException ex) {
+      throw expectedVersion.mismatch(ORDER, orderJpaEntity.getVersion());
+    }
   }
 
+  @Transactional(readOnly = true)
   public Order getOrderById(UUID id) {
     final var orderEntityJpa = orderRepository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND_MESSAGE));
     return orderMapper.toDomain(orderEntityJpa);
   }
 
+  public Revision getOrderRevision(UUID id) {
+    return orderRepository.findRevisionById(id)
+        .orElseThrow(() -> new ResourceNotFoundException(ORDER_NOT_FOUND_MESSAGE));
+  }
+
   private HashSet<OrderItem> getOrderItems(PreOrder preOrder) {
-    final var products = productService.getProductsById(preOrder.getItemIds());
+    return getOrderItems(preOrder, Set.of());
+  }
+
+  /**
+   * Items of {@code preOrder}; a product that already has one of {@code currentItems} keeps that
+   * item, with its id, so only the lines that changed are written.
+   */
+  private HashSet<OrderItem> getOrderItems(PreOrder preOrder, Set<OrderItem> currentItems) {
+    final var itemIndex = preOrder.indexItems();
+    final var products = productService.getProductsById(itemIndex.ids());
+    final var currentItemsByProductId = new HashMap<UUID, OrderItem>();
+    currentItems.forEach(item -> currentItemsByProductId.put(item.getProduct().getId(), item));
+    final var orderItems = new HashSet<OrderItem>();
+    products.forEach(product -> {
+      final var amount = itemIndex.amountOf(product.getId());
+      final var currentItem = currentItemsByProductId.get(product.getId());
+      orderItems.add(Objects.isNull(currentItem)
+          ? OrderItem.newOrderItem(product, amount)
+          : currentItem.update(product, amount));
+    });
+    return orderItems;
+  }
+
+  /**
+   * Items of the products of {@code itemIndex} found in {@code productsById}; like
+   * {@link #getOrderItems(PreOrder)}, ids of missing products are left out.
+   */
+  private static HashSet<OrderItem> getOrderItems(PreOrderItemIndex itemIndex,
+      Map<UUID, Product> productsById) {
     final var orderItems = new HashSet<OrderItem>();
-    products.forEach(product -> orderItems.add(
-        OrderItem.newOrderItem(product, preOrder.getItemAmountByItemId(product.getId()))));
+    for (final UUID productId : itemIndex.ids()) {
+      final var product = productsById.get(productId);
+      if (Objects.nonNull(product)) {
+        orderItems.add(OrderItem.newOrderItem(product, itemIndex.amountOf(productId)));
+      }
+    }
     return orderItems;
   }
 
@@ -90,5 +278,6 @@ public class DefaultOrderService implements OrderService {
       throw new ResourceNotFoundException(ORDER_NOT_FOUND_MESSAGE);
     }
     orderRepository.deleteById(id);
+    listingCache.invalidate(Table.ORDERS);
   }
 }
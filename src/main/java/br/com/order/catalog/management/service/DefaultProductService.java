@@ -1,6 +1,12 @@
 package br.com.order.catalog.management.service;
 
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.cache.ListingCache.Listing;
+import br.com.order.catalog.management.cache.ListingCache.Table;
+import br.com.order.catalog.management.cache.ProductCache;
 import br.com.order.catalog.management.controller.product.model.UpdateProductRequest;
+import br.com.order.catalog.management.domain.Revision;
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.entity.ProductJpaEntity;
 import br.com.order.catalog.management.exceptions.ProductLinkedToOrderException;
@@ -10,13 +16,22 @@ import br.com.order.catalog.management.repository.ProductRepository;
 import br.com.order.catalog.management.specification.ProductSpecification;
 import br.com.order.catalog.management.specification.filter.ProductFilter;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,67 +41,136 @@ public class DefaultProductService implements ProductService {
 
   private final static String PRODUCT_NOT_FOUND_ERROR_MESSAGE = "Product not found";
 
+  private static final String PRODUCT = "Product";
+
   private final ProductRepository productRepository;
 
   private final ProductMapper productMapper;
 
-  public DefaultProductService(ProductRepository productRepository, ProductMapper productMapper) {
+  private final ProductCache productCache;
+
+  private final ListingCache listingCache;
+
+  public DefaultProductService(ProductRepository productRepository, ProductMapper productMapper,
+      ProductCache productCache, ListingCache listingCache) {
     this.productRepository = productRepository;
     this.productMapper = productMapper;
+    this.productCache = productCache;
+    this.listingCache = listingCache;
   }
 
   public Page<Product> getProducts(Pageable pageable, ProductFilter productFilter) {
 
     Specification<ProductJpaEntity> specification = ProductSpecification.withFilters(productFilter);
 
-    return productRepository.findAll(specification, pageable).map(productMapper::toDomain);
+    return listingCache.get(Listing.PRODUCTS, productFilter.key(), pageable,
+        () -> productRepository.findAll(specification, pageable).map(productMapper::toDomain),
+        Product::copy);
+  }
+
+  public Slice<Product> getProductSlice(Pageable pageable, ProductFilter productFilter) {
+
+    Specification<ProductJpaEntity> specification = ProductSpecification.withFilters(productFilter);
+
+    return productRepository.findSlice(specification, pageable).map(productMapper::toDomain);
+  }
+
+  public OptionalLong estimateProductCount(ProductFilter productFilter) {
+    return productFilter.isEmpty() ? productRepository.estimatedCount() : OptionalLong.empty();
+  }
+
+  public Window<Product> scrollProducts(Sort sort, KeysetScrollPosition position, int size,
+      ProductFilter productFilter) {
+
+    Specification<ProductJpaEntity> specification = ProductSpecification.withFilters(productFilter);
+
+    return productRepository.scroll(specification, sort, position, size)
+        .map(productMapper::toDomain);
   }
 
   @Transactional
   public Product saveProduct(Product product) {
-    final var productJpaEntity = productRepository.save(productMapper.toEntity(product));
+    final var productJpaEntity = productRepository.save(productMapper.toNewEntity(product));
+    productCache.invalidate(product.getId());
+    listingCache.invalidate(Table.PRODUCTS);
     return productMapper.toDomain(productJpaEntity);
   }
 
   @Transactional
-  public Product updateProduct(UUID id, UpdateProductRequest request) {
-    final var product = getProductById(id);
-
+  public Product updateProduct(UUID id, UpdateProductRequest request,
+      ExpectedVersion expectedVersion) {
+    if (expectedVersion.isContradictory()) {
+      // no version satisfies both, so nothing is written; the current one tells which fails
+      expectedVersion.check(PRODUCT, getProductRevision(id).version());
+    }
     final var willBeActive = request.active();
     final var newName = request.name();
     final var newType = request.type();
-    final var newPrice = request.price();
+    final var newPrice = Money.of(request.price());
+
+    // written without reading the product first; only a failed update checks why no row matched
+    final var productJpaEntity = productRepository
+        .updateById(id, newName, newPrice, newType, willBeActive, Product.now(),
+            expectedVersion.value())
+        .orElseThrow(() -> notUpdated(id, expectedVersion));
+    productCache.invalidate(id);
+    listingCache.invalidate(Table.PRODUCTS);
+    return productMapper.toDomain(productJpaEntity);
+  }
 
-    product.update(newName, newPrice, newType, willBeActive);
+  private RuntimeException notUpdated(UUID id, ExpectedVersion expectedVersion) {
+    if (Objects.nonNull(expectedVersion.value()) && productRepository.existsById(id)) {
+      return expectedVersion.mismatch(PRODUCT, null);
+    }
+    return new ResourceNotFoundException(PRODUCT_NOT_FOUND_ERROR_MESSAGE);
+  }
 
-    final var productJpaEntity = productMapper.toEntity(product);
+  public Product getProductById(UUID id) {
+    return productCache.get(id, this::loadProductById);
+  }
 
-    final var mergedProductJpaEntity = productRepository.save(productJpaEntity);
-    return productMapper.toDomain(mergedProductJpaEntity);
+  public Revision getProductRevision(UUID id) {
+    return productRepository.findRevisionById(id)
+        .orElseThrow(() -> new ResourceNotFoundException(PRODUCT_NOT_FOUND_ERROR_MESSAGE));
   }
 
-  public Product getProductById(UUID id) {
+  private Product loadProductById(UUID id) {
     final var productJpaEntity = productRepository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException(PRODUCT_NOT_FOUND_ERROR_MESSAGE));
     return productMapper.toProduct(productJpaEntity);
   }
 
+  @Transactional
   public void deleteProductById(UUID id) {
-    if (!productRepository.existsById(id)) {
-      throw new ResourceNotFoundException(PRODUCT_NOT_FOUND_ERROR_MESSAGE);
-    }
+    final boolean deleted;
     try {
-      productRepository.deleteById(id);
+      deleted = productRepository.deleteIfExists(id);
     } catch (DataIntegrityViolationException ex) {
       throw new ProductLinkedToOrderException("It is not possible to delete a product that is linked to an order");
     }
+    if (!deleted) {
+      throw new ResourceNotFoundException(PRODUCT_NOT_FOUND_ERROR_MESSAGE);
+    }
+    productCache.invalidate(id);
+    listingCache.invalidate(Table.PRODUCTS);
+  }
 
+  @Transactional
+  public long importProducts(Stream<Product> products) {
+    final var imported = productRepository.upsertAll(products.map(productMapper::toEntity));
+    productCache.invalidateAll();
+    listingCache.invalidate(Table.PRODUCTS);
+    return imported;
   }
 
   @Override
   public Set<Product> getProductsById(Set<UUID> items) {
-    return productRepository.findAllById(items).stream().map(productMapper::toDomain)
-        .collect(Collectors.toSet());
+    return productCache.getAll(items, this::loadProductsById);
+  }
+
+  private Map<UUID, Product> loadProductsById(Set<? extends UUID> ids) {
+    return productRepository.findAllById(Set.copyOf(ids)).stream().map(productMapper::toDomain)
+        .collect(Collectors.toMap(Product::getId, Function.identity()));
   }
 
 }
@@ -0,0 +1,66 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
+import br.com.order.catalog.management.exceptions.VersionConflictException;
+import java.util.Objects;
+
+/**
+ * Version a write expects its resource to be at, given in the body, in {@code If-Match}, both or
+ * neither. A stale body version is a conflict and a stale {@code If-Match} a failed precondition;
+ * both are enforced by the conditional write itself, not by a read made before it.
+ */
+public record ExpectedVersion(Long body, Long ifMatch) {
+
+  public static final ExpectedVersion ANY = new ExpectedVersion(null, null);
+
+  public static ExpectedVersion ofBody(Long body) {
+    return new ExpectedVersion(body, null);
+  }
+
+  /**
+   * Version the conditional write compares with, or null when any version will do.
+   */
+  public Long value() {
+    return Objects.nonNull(ifMatch) ? ifMatch : body;
+  }
+
+  /**
+   * Whether the body and {@code If-Match} expect different versions, which no write satisfies.
+   */
+  public boolean isContradictory() {
+    return Objects.nonNull(body) && Objects.nonNull(ifMatch) && !body.equals(ifMatch);
+  }
+
+  /**
+   * Fails unless {@code current} is the expected version, {@code If-Match} being checked first
+   * like any precondition.
+   */
+  public void check(String resource, Long current) {
+    if (Objects.nonNull(ifMatch) && !ifMatch.equals(current)) {
+      throw preconditionFailed(resource);
+    }
+    if (Objects.nonNull(body) && !body.equals(current)) {
+      throw conflict(resource, body);
+    }
+  }
+
+  /**
+   * Failure of a conditional write that no longer found the resource at the version it expected,
+   * or at {@code readVersion} when it expected none.
+   */
+  public RuntimeException mismatch(String resource, Long readVersion) {
+    if (Objects.nonNull(ifMatch)) {
+      return preconditionFailed(resource);
+    }
+    return conflict(resource, Objects.nonNull(body) ? body : readVersion);
+  }
+
+  private static PreconditionFailedException preconditionFailed(String resource) {
+    return new PreconditionFailedException(resource + " has changed since the ETag in If-Match");
+  }
+
+  private static VersionConflictException conflict(String resource, Long version) {
+    return new VersionConflictException(
+        resource + " was changed by another request, it is no longer at version " + version);
+  }
+}
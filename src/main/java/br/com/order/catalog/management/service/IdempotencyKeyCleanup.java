@@ -0,0 +1,34 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.domain.DomainEntity;
+import br.com.order.catalog.management.repository.IdempotencyKeyRepository;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes the {@code Idempotency-Key}s older than {@code catalog.idempotency.ttl} every
+ * {@code catalog.idempotency.cleanup-interval}; a request repeating an expired key creates a new
+ * order.
+ */
+@Component
+public class IdempotencyKeyCleanup {
+
+  private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+  private final Duration ttl;
+
+  public IdempotencyKeyCleanup(IdempotencyKeyRepository idempotencyKeyRepository,
+      @Value("${catalog.idempotency.ttl:P1D}") Duration ttl) {
+    this.idempotencyKeyRepository = idempotencyKeyRepository;
+    this.ttl = ttl;
+  }
+
+  @Scheduled(fixedDelayString = "${catalog.idempotency.cleanup-interval:PT1H}")
+  @Transactional
+  public int deleteExpiredKeys() {
+    return idempotencyKeyRepository.deleteCreatedBefore(DomainEntity.now().minus(ttl));
+  }
+}
@@ -0,0 +1,213 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.PreOrder;
+import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
+import br.com.order.catalog.management.exceptions.OrderIntakeTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entry point of single order creations, which can group the concurrent ones into shared
+ * transactions ({@code catalog.orders.intake.enabled}).
+ *
+ * <p>When enabled, requests wait in a bounded queue that a single writer drains: it takes up to
+ * {@code max-batch-size} orders, or what arrived within {@code max-wait} of the first one, and
+ * creates them with {@link OrderService#createOrders}, so the group shares one product lookup,
+ * batched inserts and one commit. Every caller still gets its own order or error. A request that
+ * finds the queue full, or the intake disabled or stopped, creates its order on its own, and so
+ * does one the writer has not taken within {@code timeout}, or that is still queued when the
+ * writer ends for any reason.
+ */
+@Component
+public class OrderIntake implements SmartLifecycle {
+
+  private static final long POLL_MILLIS = 100L;
+
+  private record Request(PreOrder preOrder, CompletableFuture<Order> order, AtomicBoolean taken) {
+
+    /**
+     * Claims the creation of the order, for the writer or the caller, whichever comes first.
+     */
+    boolean take() {
+      return taken.compareAndSet(false, true);
+    }
+  }
+
+  private final OrderService orderService;
+
+  private final boolean enabled;
+
+  private final int maxBatchSize;
+
+  private final long maxWaitNanos;
+
+  private final long timeoutNanos;
+
+  private final BlockingQueue<Request> queue;
+
+  // held to queue a request, and exclusively to stop, so nothing is queued once the writer may end
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private volatile boolean running;
+
+  private Thread writer;
+
+  public OrderIntake(OrderService orderService,
+      @Value("${catalog.orders.intake.enabled:false}") boolean enabled,
+      @Value("${catalog.orders.intake.max-batch-size:200}") int maxBatchSize,
+      @Value("${catalog.orders.intake.max-wait:5ms}") Duration maxWait,
+      @Value("${catalog.orders.intake.queue-capacity:10000}") int queueCapacity,
+      @Value("${catalog.orders.intake.timeout:30s}") Duration timeout) {
+    this.orderService = orderService;
+    this.enabled = enabled;
+    this.maxBatchSize = maxBatchSize;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.timeoutNanos = timeout.toNanos();
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  public Order createOrder(PreOrder preOrder) {
+    final var request = new Request(preOrder, new CompletableFuture<>(), new AtomicBoolean());
+    final boolean queued;
+    lock.readLock().lock();
+    try {
+      queued = running && queue.offer(request);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return queued ? await(request) : orderService.createOrder(preOrder);
+  }
+
+  @Override
+  public void start() {
+    if (!enabled || running) {
+      return;
+    }
+    running = true;
+    writer = new Thread(this::drain, "order-intake");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @Override
+  public void stop() {
+    close();
+    if (writer != null) {
+      try {
+        // the writer creates what is still queued before it ends
+        writer.join();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      writer = null;
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void close() {
+    lock.writeLock().lock();
+    try {
+      running = false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void drain() {
+    final var batch = new ArrayList<Request>(maxBatchSize);
+    try {
+      while (running || !queue.isEmpty()) {
+        final var first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        final var deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+          if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+            continue;
+          }
+          final var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        write(batch);
+        batch.clear();
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      // whatever ends the writer, later requests and the ones it did not take create their own
+      close();
+      queue.drainTo(batch);
+      batch.stream().filter(Request::take).forEach(request -> request.order().completeExceptionally(
+          new RejectedExecutionException("Order intake stopped before the order was created")));
+    }
+  }
+
+  private void write(List<Request> batch) {
+    final var taken = batch.stream().filter(Request::take).toList();
+    if (taken.isEmpty()) {
+      return;
+    }
+    try {
+      final var results = orderService.createOrders(taken.stream().map(Request::preOrder).toList());
+      for (int i = 0; i < taken.size(); i++) {
+        final var result = results.get(i);
+        if (result.isFailed()) {
+          taken.get(i).order().completeExceptionally(new InvalidItemExceptionException(result.error()));
+        } else {
+          taken.get(i).order().complete(result.value());
+        }
+      }
+    } catch (Throwable ex) {
+      // fails this group only, the writer goes on with the next one
+      taken.forEach(request -> request.order().completeExceptionally(ex));
+    }
+  }
+
+  private Order await(Request request) {
+    try {
+      return request.order().get(timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      if (request.take()) {
+        // the writer never got to it, so it is not created twice
+        return orderService.createOrder(request.preOrder());
+      }
+      throw new OrderIntakeTimeoutException(
+          "Order creation took too long, the order may still be created");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RejectedExecutionException) {
+        return orderService.createOrder(request.preOrder());
+      }
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Order intake failed to create the order", ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the order to be created", ex);
+    }
+  }
+}
@@ -1,23 +1,68 @@
 package br.com.order.catalog.management.service;
 
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.OrderPatch;
 import br.com.order.catalog.management.domain.order.PreOrder;
 import br.com.order.catalog.management.specification.filter.OrderFilter;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
 
 public interface OrderService {
 
   Order getOrderById(UUID id);
 
+  Revision getOrderRevision(UUID id);
+
   Page<Order> getOrders(Pageable pageable, OrderFilter orderFilter);
 
+  Slice<Order> getOrderSlice(Pageable pageable, OrderFilter orderFilter);
+
+  /**
+   * Estimated number of orders, empty when the filter has criteria or there is no estimate yet.
+   */
+  OptionalLong estimateOrderCount(OrderFilter orderFilter);
+
+  Window<Order> scrollOrders(Sort sort, KeysetScrollPosition position, int size,
+      OrderFilter orderFilter);
+
   Order createOrder(PreOrder preOrder);
 
-  Order updateOrder(UUID id, PreOrder preOrder);
+  /**
+   * Creates the order of {@code preOrder} once per {@code idempotencyKey}: until the key expires,
+   * a request with the same key gets the order the first one created instead, even when both run
+   * at the same time on different nodes.
+   */
+  Order createOrder(PreOrder preOrder, String idempotencyKey);
+
+  /**
+   * Creates every valid order of {@code preOrders} in one transaction. The results follow the
+   * order of {@code preOrders}; an order that cannot be created is reported without failing the
+   * others.
+   */
+  List<BatchResult<Order>> createOrders(List<PreOrder> preOrders);
+
+  /**
+   * Updates the order {@code id} to {@code preOrder}, if it is at {@code expectedVersion}, within
+   * the versioned update itself; in any case the update fails when another one is written while
+   * this one runs.
+   */
+  Order updateOrder(UUID id, PreOrder preOrder, ExpectedVersion expectedVersion);
+
+  /**
+   * Applies {@code patch} to the order {@code id}, keeping its items, with the same version check
+   * as {@link #updateOrder}.
+   */
+  Order patchOrder(UUID id, OrderPatch patch, ExpectedVersion expectedVersion);
 
   void deleteOrderById(UUID id);
 }
@@ -1,27 +1,52 @@
 package br.com.order.catalog.management.service;
 
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.controller.product.model.UpdateProductRequest;
 import br.com.order.catalog.management.domain.product.Product;
 
 import java.util.Set;
 
 import br.com.order.catalog.management.specification.filter.ProductFilter;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ProductService {
 
   Product getProductById(UUID id);
 
+  Revision getProductRevision(UUID id);
+
   Page<Product> getProducts(Pageable pageable, ProductFilter productFilter);
 
+  Slice<Product> getProductSlice(Pageable pageable, ProductFilter productFilter);
+
+  /**
+   * Estimated number of products, empty when the filter has criteria or there is no estimate yet.
+   */
+  OptionalLong estimateProductCount(ProductFilter productFilter);
+
+  Window<Product> scrollProducts(Sort sort, KeysetScrollPosition position, int size,
+      ProductFilter productFilter);
+
   Product saveProduct(Product product);
 
-  Product updateProduct(UUID id, UpdateProductRequest request);
+  Product updateProduct(UUID id, UpdateProductRequest request, ExpectedVersion expectedVersion);
 
   void deleteProductById(UUID id);
 
+  /**
+   * Inserts or updates by id every product of {@code products} in one transaction, consuming the
+   * stream as it goes. Returns the number of products written.
+   */
+  long importProducts(Stream<Product> products);
+
   Set<Product> getProductsById(Set<UUID> items);
 }
@@ -3,10 +3,13 @@ package br.com.order.catalog.management.specification;
 import br.com.order.catalog.management.entity.ProductJpaEntity;
 import br.com.order.catalog.management.specification.filter.ProductFilter;
 import jakarta.persistence.criteria.Predicate;
+import java.util.Locale;
 import org.springframework.data.jpa.domain.Specification;
 
 public class ProductSpecification {
 
+    private static final char LIKE_ESCAPE = '\\';
+
     public static Specification<ProductJpaEntity> withFilters(ProductFilter productFilter) {
         return (root, query, criteriaBuilder) -> {
             Predicate predicate = criteriaBuilder.conjunction();
@@ -14,7 +17,7 @@ public class ProductSpecification {
             if (productFilter.getName() != null && !productFilter.getName().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate,
                         criteriaBuilder.like(criteriaBuilder.lower(root.get("name")),
-                                "%" + productFilter.getName().toLowerCase() + "%"));
+                                containsPattern(productFilter.getName()), LIKE_ESCAPE));
             }
 
             if (productFilter.getActive() != null) {
@@ -30,4 +33,17 @@ public class ProductSpecification {
             return predicate;
         };
     }
+
+    /**
+     * {@code %term%} pattern for {@code lower(name) LIKE}, the expression the trigram index on
+     * products is built on. The term is lower-cased independently of the default locale and its
+     * wildcards are escaped, so {@code 50%} or {@code a_b} are searched literally.
+     */
+    private static String containsPattern(String term) {
+        final var escaped = term.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
 }
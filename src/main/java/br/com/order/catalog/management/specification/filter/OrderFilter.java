@@ -18,4 +18,19 @@ public class OrderFilter {
     public void setStatus(String status) {
         this.status = status;
     }
+
+    public boolean isEmpty() {
+        return status == null;
+    }
+
+    /**
+     * This filter as the specification applies it, so filters selecting the same orders have
+     * equal keys.
+     */
+    public Key key() {
+        return new Key(status == null ? null : status.toUpperCase());
+    }
+
+    public record Key(String status) {
+    }
 }
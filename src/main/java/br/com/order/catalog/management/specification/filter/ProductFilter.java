@@ -1,5 +1,7 @@
 package br.com.order.catalog.management.specification.filter;
 
+import java.util.Locale;
+
 public class ProductFilter {
     private String name;
     private String type;
@@ -37,4 +39,21 @@ public class ProductFilter {
     public void setActive(Boolean active) {
         this.active = active;
     }
+
+    public boolean isEmpty() {
+        return (name == null || name.isEmpty()) && (type == null || type.isEmpty()) && active == null;
+    }
+
+    /**
+     * This filter as the specification applies it, so filters selecting the same products have
+     * equal keys.
+     */
+    public Key key() {
+        return new Key(name == null || name.isEmpty() ? null : name.toLowerCase(Locale.ROOT),
+                type == null || type.isEmpty() ? null : type.toUpperCase(),
+                active);
+    }
+
+    public record Key(String name, String type, Boolean active) {
+    }
 }
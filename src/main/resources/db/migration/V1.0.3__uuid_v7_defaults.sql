@@ -0,0 +1,18 @@
+-- RFC 9562 version 7 UUID: 48-bit unix epoch milliseconds over the bytes of a random v4 UUID,
+-- with the version nibble turned from 0100 into 0111. Used as the default for rows inserted
+-- outside the application, which assigns its own v7 ids.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(EPOCH FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID;
+$$ LANGUAGE SQL VOLATILE;
+
+ALTER TABLE orders ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE products ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE order_items ALTER COLUMN id SET DEFAULT uuid_generate_v7();
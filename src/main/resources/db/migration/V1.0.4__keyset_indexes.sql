@@ -0,0 +1,4 @@
+-- Seek pagination walks (sort key, id) in index order; the primary keys cover the sort by id.
+CREATE INDEX IF NOT EXISTS idx_orders_total_id ON orders (total, id);
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON products (name, id);
+CREATE INDEX IF NOT EXISTS idx_products_price_id ON products (price, id);
@@ -0,0 +1,5 @@
+-- Serves the substring search of ProductSpecification, lower(name) LIKE '%term%', which no
+-- B-tree index can answer.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_products_name_trgm ON products USING gin (lower(name) gin_trgm_ops);
@@ -0,0 +1,15 @@
+-- Item loads by order, the foreign key checks and ON DELETE CASCADE of order_items, and the
+-- status/active/type filters of the listings. Built CONCURRENTLY so existing tables are not
+-- locked against writes; see the .conf file next to this script.
+--
+-- A concurrent build that fails leaves an INVALID index behind under its name, which IF NOT
+-- EXISTS would then skip for good. Each index is therefore dropped before it is built: after a
+-- failure, run flyway repair and migrate again, and whatever the failed run left is rebuilt.
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_items_order_id;
+CREATE INDEX CONCURRENTLY idx_order_items_order_id ON order_items (order_id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_order_items_product_id;
+CREATE INDEX CONCURRENTLY idx_order_items_product_id ON order_items (product_id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_orders_status;
+CREATE INDEX CONCURRENTLY idx_orders_status ON orders (status);
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_type;
+CREATE INDEX CONCURRENTLY idx_products_active_type ON products (active, type);
@@ -0,0 +1,68 @@
+package br.com.order.catalog.management.cache;
+
+import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void givenConcurrentRequestsWithTheSameKey_whenGet_thenCreateTheOrderOnce() throws Exception {
+        var cache = new IdempotencyCache("maximumSize=100");
+        var creations = new AtomicInteger();
+        var creating = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Order> first = executor.submit(() -> cache.get("key", key -> {
+                creations.incrementAndGet();
+                creating.countDown();
+                await(release);
+                return Order.newOrder(OrderStatus.OPEN, Set.of(), 0);
+            }));
+            assertTrue(creating.await(5, TimeUnit.SECONDS));
+            Future<Order> second = executor.submit(() -> cache.get("key", key -> {
+                creations.incrementAndGet();
+                return Order.newOrder(OrderStatus.OPEN, Set.of(), 0);
+            }));
+            release.countDown();
+
+            assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertNotSame(first.get(), second.get());
+            assertEquals(1, creations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void givenAFailedCreation_whenGetAgain_thenCreateTheOrder() {
+        var cache = new IdempotencyCache("maximumSize=100");
+
+        assertThrows(InvalidItemExceptionException.class, () -> cache.get("key", key -> {
+            throw new InvalidItemExceptionException("Order contains inactive product");
+        }));
+        var order = cache.get("key", key -> Order.newOrder(OrderStatus.OPEN, Set.of(), 0));
+
+        assertEquals(order, cache.get("key", key -> fail("the order was already created")));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.order.catalog.management.cache;
+
+import br.com.order.catalog.management.cache.ListingCache.Listing;
+import br.com.order.catalog.management.cache.ListingCache.Table;
+import br.com.order.catalog.management.specification.filter.ProductFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListingCacheTest {
+
+    private static final PageRequest PAGE = PageRequest.of(0, 50);
+
+    @Test
+    void givenAWriteToATable_whenGet_thenReloadOnlyTheListingsReadingIt() {
+        var cache = new ListingCache("maximumSize=100");
+        var orderLoads = new AtomicInteger();
+        var productLoads = new AtomicInteger();
+        Supplier<Page<String>> orders = () -> new PageImpl<>(List.of("order" + orderLoads.incrementAndGet()));
+        Supplier<Page<String>> products = () -> new PageImpl<>(List.of("product" + productLoads.incrementAndGet()));
+
+        cache.get(Listing.ORDERS, "filter", PAGE, orders, value -> value);
+        cache.get(Listing.PRODUCTS, "filter", PAGE, products, value -> value);
+        cache.invalidate(Table.ORDERS);
+        cache.get(Listing.ORDERS, "filter", PAGE, orders, value -> value);
+        cache.get(Listing.PRODUCTS, "filter", PAGE, products, value -> value);
+
+        assertEquals(2, orderLoads.get());
+        assertEquals(1, productLoads.get());
+
+        // orders are listed with their products
+        cache.invalidate(Table.PRODUCTS);
+        cache.get(Listing.ORDERS, "filter", PAGE, orders, value -> value);
+
+        assertEquals(3, orderLoads.get());
+    }
+
+    @Test
+    void givenEquivalentFilters_whenGet_thenShareTheCachedPage() {
+        var cache = new ListingCache("maximumSize=100");
+        var loads = new AtomicInteger();
+        Supplier<Page<String>> loader = () -> new PageImpl<>(List.of("product" + loads.incrementAndGet()));
+
+        cache.get(Listing.PRODUCTS, new ProductFilter("Key", "product", true).key(), PAGE, loader, value -> value);
+        cache.get(Listing.PRODUCTS, new ProductFilter("KEY", "PRODUCT", true).key(), PAGE, loader, value -> value);
+        cache.get(Listing.PRODUCTS, new ProductFilter("KEY", "PRODUCT", true).key(), PageRequest.of(1, 50), loader, value -> value);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void givenARegistry_whenBindTo_thenPublishTheHitRatio() {
+        var cache = new ListingCache("maximumSize=100");
+        var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        Supplier<Page<String>> loader = () -> new PageImpl<>(List.of("product"));
+
+        for (int i = 0; i < 4; i++) {
+            cache.get(Listing.PRODUCTS, "filter", PAGE, loader, value -> value);
+        }
+
+        assertEquals(0.75, registry.get("cache.hit.ratio").tags("cache", "listings").gauge().value());
+        assertEquals(3.0, registry.get("cache.gets").tags("cache", "listings", "result", "hit").functionCounter().count());
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.order.catalog.management.cache;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.product.Product;
+import br.com.order.catalog.management.domain.product.ProductType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCacheTest {
+
+    @Test
+    void givenARegistry_whenBindTo_thenPublishHitsMissesAndEvictions() {
+        var cache = new ProductCache("maximumSize=1");
+        var registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        var first = Product.newProduct("first", Money.ofCents(100), ProductType.PRODUCT, true);
+        var second = Product.newProduct("second", Money.ofCents(200), ProductType.PRODUCT, true);
+
+        cache.get(first.getId(), id -> first);
+        cache.get(first.getId(), id -> first);
+        cache.getAll(Set.of(second.getId()), ids -> Map.of(second.getId(), second));
+
+        assertEquals(1.0, registry.get("cache.gets").tags("cache", "products", "result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("cache.gets").tags("cache", "products", "result", "miss").functionCounter().count());
+        assertNotNull(registry.get("cache.evictions").tags("cache", "products").functionCounter());
+    }
+
+    @Test
+    void givenACachedProduct_whenChangingWhatGetReturned_thenTheCacheIsUnchanged() {
+        var cache = new ProductCache("maximumSize=10");
+        var product = Product.newProduct("name", Money.ofCents(100), ProductType.PRODUCT, true);
+
+        cache.get(product.getId(), id -> product)
+            .update("changed", Money.ofCents(1), ProductType.SERVICE, false);
+
+        assertEquals("name", cache.get(product.getId(), id -> fail("should be cached")).getName());
+    }
+
+    @Test
+    void givenAnInvalidatedProduct_whenGet_thenLoadItAgain() {
+        var cache = new ProductCache("maximumSize=10");
+        var id = UUID.randomUUID();
+        var product = new Product(id, null, null, "name", Money.ofCents(100), ProductType.PRODUCT, true, 0L);
+        cache.get(id, key -> product);
+
+        cache.invalidate(id);
+
+        var reloaded = new Product(id, null, null, "reloaded", Money.ofCents(100), ProductType.PRODUCT, true, 0L);
+        assertEquals("reloaded", cache.get(id, key -> reloaded).getName());
+    }
+
+    @Test
+    void givenCachedProducts_whenInvalidateAll_thenLoadThemAgain() {
+        var cache = new ProductCache("maximumSize=10");
+        var product = Product.newProduct("name", Money.ofCents(100), ProductType.PRODUCT, true);
+        var loads = new AtomicInteger();
+
+        cache.get(product.getId(), id -> { loads.incrementAndGet(); return product; });
+        cache.invalidateAll();
+        cache.get(product.getId(), id -> { loads.incrementAndGet(); return product; });
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -1,16 +1,33 @@
 package br.com.order.catalog.management.controller;
 
+import br.com.order.catalog.management.cache.IdempotencyCache;
+import br.com.order.catalog.management.controller.EntityTags;
 import br.com.order.catalog.management.controller.order.DefaultOrderController;
+import br.com.order.catalog.management.controller.order.OrderController;
+import br.com.order.catalog.management.controller.order.model.BatchCreateOrderResponse;
 import br.com.order.catalog.management.controller.order.model.CreateOrderRequest;
 import br.com.order.catalog.management.controller.order.model.OrderResponse;
 import br.com.order.catalog.management.controller.order.model.UpdateOrderRequest;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.domain.order.*;
 import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.exceptions.BatchTooLargeException;
+import br.com.order.catalog.management.exceptions.InvalidPatchException;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
 import br.com.order.catalog.management.mapper.OrderMapper;
 import br.com.order.catalog.management.mapper.PreOrderMapper;
+import br.com.order.catalog.management.pagination.CursorCodec;
+import br.com.order.catalog.management.pagination.CursorPage;
+import br.com.order.catalog.management.pagination.SlicePage;
+import br.com.order.catalog.management.service.BatchResult;
+import br.com.order.catalog.management.service.ExpectedVersion;
+import br.com.order.catalog.management.service.OrderIntake;
 import br.com.order.catalog.management.service.OrderService;
 import br.com.order.catalog.management.specification.filter.OrderFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,12 +35,27 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -48,6 +80,22 @@ class DefaultOrderControllerTest {
     @Mock
     private PreOrderMapper preOrderMapper;
 
+    @Mock
+    private OrderIntake orderIntake;
+
+    @Spy
+    private IdempotencyCache idempotencyCache = new IdempotencyCache("maximumSize=100");
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-01T10:15:30.123456Z");
+
+    private static final Revision REVISION = new Revision(0L, LAST_MODIFIED);
+
     private UUID orderId;
     private Product product;
     private Set<OrderItem> orderItemsSet;
@@ -59,25 +107,81 @@ class DefaultOrderControllerTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         orderId = UUID.randomUUID();
-        product = Product.newProduct("Laptop", new BigDecimal("2500"), ProductType.PRODUCT, true);
+        product = Product.newProduct("Laptop", Money.of(new BigDecimal("2500")), ProductType.PRODUCT, true);
         orderItemsSet = new HashSet<>(Collections.singleton(new OrderItem(orderId, Instant.now(), null, product, 5)));
         orderItemList = new ArrayList<>(orderItemsSet);
-        order = new Order(orderId, Instant.now(), null, OrderStatus.OPEN, orderItemsSet, 5, new BigDecimal("12500"));
-        orderResponse = new OrderResponse(orderId, OrderStatus.OPEN, orderItemList, 5, new BigDecimal("12500"));
+        order = new Order(orderId, Instant.now(), LAST_MODIFIED, OrderStatus.OPEN, orderItemsSet, 5, Money.of(new BigDecimal("12500")), 0L);
+        orderResponse = new OrderResponse(orderId, OrderStatus.OPEN, orderItemList, 5, new BigDecimal("12500"), 0L);
     }
 
     @Test
     void testFindById() {
+        when(orderService.getOrderRevision(orderId)).thenReturn(REVISION);
         when(orderService.getOrderById(orderId)).thenReturn(order);
         when(orderMapper.toResponse(order)).thenReturn(orderResponse);
 
-        EntityModel<OrderResponse> response = orderController.findById(orderId);
+        ResponseEntity<EntityModel<OrderResponse>> entity = orderController.findById(orderId, webRequest("GET"));
+        EntityModel<OrderResponse> response = entity.getBody();
+
+        assertEquals(EntityTags.of(REVISION), entity.getHeaders().getETag());
 
         assertNotNull(response);
         assertEquals(orderResponse, response.getContent());
         assertEquals(3, response.getLinks().stream().toList().size());
     }
 
+    @Test
+    void testFindByIdLinksExpandTheId() {
+        when(orderService.getOrderRevision(orderId)).thenReturn(REVISION);
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        EntityModel<OrderResponse> response = orderController.findById(orderId, webRequest("GET")).getBody();
+
+        assertEquals("/orders/" + orderId, response.getRequiredLink("self").getHref());
+        assertEquals("/orders/" + orderId, response.getRequiredLink("update").getHref());
+        assertEquals("/orders/" + orderId, response.getRequiredLink("delete").getHref());
+    }
+
+    @Test
+    void testFindLeanById() {
+        when(orderService.getOrderRevision(orderId)).thenReturn(REVISION);
+        when(orderService.getOrderById(orderId)).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        ResponseEntity<OrderResponse> entity = orderController.findLeanById(orderId, webRequest("GET"));
+
+        assertEquals(orderResponse, entity.getBody());
+        assertEquals(EntityTags.of(REVISION, "lean"), entity.getHeaders().getETag());
+    }
+
+    @Test
+    void testFindLeanByIdNotModified() {
+        when(orderService.getOrderRevision(orderId)).thenReturn(REVISION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/" + orderId);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, EntityTags.of(REVISION, "lean"));
+
+        ResponseEntity<OrderResponse> entity = orderController.findLeanById(orderId,
+            new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, entity.getStatusCode());
+        verify(orderService, never()).getOrderById(orderId);
+    }
+
+    @Test
+    void testFindByIdNotModified() {
+        when(orderService.getOrderRevision(orderId)).thenReturn(REVISION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders/" + orderId);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, EntityTags.of(REVISION));
+
+        ResponseEntity<EntityModel<OrderResponse>> entity = orderController.findById(orderId,
+            new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, entity.getStatusCode());
+        assertNull(entity.getBody());
+        verify(orderService, never()).getOrderById(orderId);
+    }
+
     @Test
     void testFindAll() {
         Pageable pageable = Pageable.unpaged();
@@ -95,6 +199,51 @@ class DefaultOrderControllerTest {
         assertEquals(orderResponse, response.getContent().get(0));
     }
 
+    @Test
+    void testFindSliceWithApproximateTotal() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(orderService.getOrderSlice(eq(pageable), any(OrderFilter.class)))
+            .thenReturn(new SliceImpl<>(List.of(order), pageable, true));
+        when(orderService.estimateOrderCount(any(OrderFilter.class))).thenReturn(OptionalLong.of(2_300_000));
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        SlicePage<OrderResponse> response = orderController.findSlice(pageable, null, true);
+
+        assertEquals(List.of(orderResponse), response.content());
+        assertTrue(response.hasNext());
+        assertEquals(2_300_000L, response.approximateTotal());
+    }
+
+    @Test
+    void testFindSliceWithoutApproximateTotal() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(orderService.getOrderSlice(eq(pageable), any(OrderFilter.class)))
+            .thenReturn(new SliceImpl<>(List.of(order), pageable, false));
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        SlicePage<OrderResponse> response = orderController.findSlice(pageable, "OPEN", false);
+
+        assertFalse(response.hasNext());
+        assertNull(response.approximateTotal());
+        verify(orderService, never()).estimateOrderCount(any());
+    }
+
+    @Test
+    void testScroll() {
+        Window<Order> window = Window.from(List.of(order),
+            index -> ScrollPosition.forward(Map.of("total", order.getTotal(), "id", orderId)), true);
+
+        when(orderService.scrollOrders(eq(Sort.by(Sort.Direction.DESC, "total")), any(KeysetScrollPosition.class),
+            eq(20), any(OrderFilter.class))).thenReturn(window);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        CursorPage<OrderResponse> response = orderController.scroll(null, 20, "total,desc", null);
+
+        assertEquals(List.of(orderResponse), response.content());
+        assertEquals(Map.of("total", order.getTotal(), "id", orderId),
+            CursorCodec.ORDERS.decode(response.next()).position().getKeys());
+    }
+
     @Test
     void testCreate() {
         List<PreOrderItem> preOrderItems = List.of(new PreOrderItem(orderId, 5));
@@ -102,31 +251,171 @@ class DefaultOrderControllerTest {
         PreOrder preOrder = new PreOrder(OrderStatus.OPEN, preOrderItems, 5);
 
         when(preOrderMapper.toDomain(createOrderRequest)).thenReturn(preOrder);
-        when(orderService.createOrder(preOrder)).thenReturn(order);
+        when(orderIntake.createOrder(preOrder)).thenReturn(order);
         when(orderMapper.toResponse(order)).thenReturn(orderResponse);
 
-        EntityModel<OrderResponse> response = orderController.create(createOrderRequest);
+        EntityModel<OrderResponse> response = orderController.create(createOrderRequest, null);
 
         assertNotNull(response);
         assertEquals(orderResponse, response.getContent());
     }
 
+    @Test
+    void testCreateWithIdempotencyKey() {
+        List<PreOrderItem> preOrderItems = List.of(new PreOrderItem(orderId, 5));
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest(OrderStatus.OPEN, preOrderItems, 5);
+        PreOrder preOrder = new PreOrder(OrderStatus.OPEN, preOrderItems, 5);
+
+        when(preOrderMapper.toDomain(createOrderRequest)).thenReturn(preOrder);
+        when(orderService.createOrder(preOrder, "key")).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        orderController.create(createOrderRequest, "key");
+        EntityModel<OrderResponse> retried = orderController.create(createOrderRequest, "key");
+
+        assertEquals(orderResponse, retried.getContent());
+        verify(orderService).createOrder(preOrder, "key");
+        verify(orderIntake, never()).createOrder(preOrder);
+    }
+
+    @Test
+    void testCreateBatch() {
+        List<PreOrderItem> preOrderItems = List.of(new PreOrderItem(orderId, 5));
+        CreateOrderRequest valid = new CreateOrderRequest(OrderStatus.OPEN, preOrderItems, 5);
+        CreateOrderRequest invalid = new CreateOrderRequest(null, preOrderItems, 5);
+        CreateOrderRequest rejected = new CreateOrderRequest(OrderStatus.OPEN, preOrderItems, 10);
+        PreOrder preOrder = new PreOrder(OrderStatus.OPEN, preOrderItems, 5);
+        PreOrder rejectedPreOrder = new PreOrder(OrderStatus.OPEN, preOrderItems, 10);
+
+        when(preOrderMapper.toDomain(valid)).thenReturn(preOrder);
+        when(preOrderMapper.toDomain(rejected)).thenReturn(rejectedPreOrder);
+        when(orderService.createOrders(List.of(preOrder, rejectedPreOrder)))
+                .thenReturn(List.of(BatchResult.created(order), BatchResult.failed("Product not found")));
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        BatchCreateOrderResponse response = orderController.createBatch(List.of(valid, invalid, rejected));
+
+        assertEquals(1, response.created());
+        assertEquals(2, response.failed());
+        assertEquals(new BatchCreateOrderResponse.Result(0, orderResponse, null), response.results().get(0));
+        assertEquals(1, response.results().get(1).index());
+        assertEquals("Validation failed for fields: [status: Status is required] ",
+                response.results().get(1).error());
+        assertEquals(new BatchCreateOrderResponse.Result(2, null, "Product not found"), response.results().get(2));
+    }
+
+    @Test
+    void testCreateBatchTooLarge() {
+        List<CreateOrderRequest> requests = Collections.nCopies(OrderController.MAX_BATCH_SIZE + 1,
+                new CreateOrderRequest(OrderStatus.OPEN, List.of(), 0));
+
+        assertThrows(BatchTooLargeException.class, () -> orderController.createBatch(requests));
+        verifyNoInteractions(orderService);
+    }
+
     @Test
     void testUpdate() {
         List<PreOrderItem> preOrderItems = orderItemList.stream()
                 .map(item -> new PreOrderItem(item.getProduct().getId(), item.getAmount()))
                 .collect(Collectors.toList());
-        UpdateOrderRequest updateOrderRequest = new UpdateOrderRequest(OrderStatus.OPEN, preOrderItems, 5);
+        UpdateOrderRequest updateOrderRequest = new UpdateOrderRequest(OrderStatus.OPEN, preOrderItems, 5, null);
         PreOrder updatedPreOrder = new PreOrder(OrderStatus.OPEN, preOrderItems, 5);
 
         when(preOrderMapper.toDomain(updateOrderRequest)).thenReturn(updatedPreOrder);
-        when(orderService.updateOrder(orderId, updatedPreOrder)).thenReturn(order);
+        when(orderService.updateOrder(orderId, updatedPreOrder, ExpectedVersion.ANY)).thenReturn(order);
         when(orderMapper.toResponse(order)).thenReturn(orderResponse);
 
-        EntityModel<OrderResponse> response = orderController.update(orderId, updateOrderRequest);
+        ResponseEntity<EntityModel<OrderResponse>> entity = orderController.update(orderId, updateOrderRequest,
+            webRequest("PUT"));
+        EntityModel<OrderResponse> response = entity.getBody();
 
         assertNotNull(response);
         assertEquals(orderResponse, response.getContent());
+        assertEquals(EntityTags.of(order.revision()), entity.getHeaders().getETag());
+        verify(orderService, never()).getOrderRevision(any());
+    }
+
+    @Test
+    void testUpdateMapsIfMatchOntoTheExpectedVersion() {
+        UpdateOrderRequest updateOrderRequest = new UpdateOrderRequest(OrderStatus.CLOSED, List.of(), 5, null);
+        PreOrder preOrder = new PreOrder(OrderStatus.CLOSED, List.of(), 5);
+        when(preOrderMapper.toDomain(updateOrderRequest)).thenReturn(preOrder);
+        when(orderService.updateOrder(orderId, preOrder, new ExpectedVersion(null, 3L))).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/orders/" + orderId);
+        request.addHeader(HttpHeaders.IF_MATCH, EntityTags.of(new Revision(3L, LAST_MODIFIED)));
+
+        ResponseEntity<EntityModel<OrderResponse>> entity = orderController.update(orderId, updateOrderRequest,
+            new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        verify(orderService).updateOrder(orderId, preOrder, new ExpectedVersion(null, 3L));
+    }
+
+    @Test
+    void testUpdateWithWeakIfMatch() {
+        UpdateOrderRequest updateOrderRequest = new UpdateOrderRequest(OrderStatus.CLOSED, List.of(), 5, null);
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/orders/" + orderId);
+        request.addHeader(HttpHeaders.IF_MATCH, "W/" + EntityTags.of(REVISION));
+        ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
+        assertThrows(PreconditionFailedException.class,
+            () -> orderController.update(orderId, updateOrderRequest, webRequest));
+        verify(orderService, never()).updateOrder(any(), any(), any());
+    }
+
+    @Test
+    void testPatch() throws Exception {
+        ObjectNode body = (ObjectNode) objectMapper.readTree("{\"status\": \"CLOSED\", \"discount\": null}");
+        OrderPatch patch = new OrderPatch(OrderStatus.CLOSED, true, null);
+        when(orderService.patchOrder(orderId, patch, ExpectedVersion.ANY)).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        ResponseEntity<EntityModel<OrderResponse>> entity = orderController.patch(orderId, body, webRequest("PATCH"));
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        assertEquals(orderResponse, entity.getBody().getContent());
+        assertEquals(EntityTags.of(order.revision()), entity.getHeaders().getETag());
+        verify(orderService).patchOrder(orderId, patch, ExpectedVersion.ANY);
+        verify(orderService, never()).getOrderRevision(any());
+    }
+
+    @Test
+    void testPatchKeepsAbsentFields() throws Exception {
+        ObjectNode body = (ObjectNode) objectMapper.readTree("{\"version\": 3}");
+        OrderPatch patch = new OrderPatch(null, false, null);
+        when(orderService.patchOrder(orderId, patch, ExpectedVersion.ofBody(3L))).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+
+        orderController.patch(orderId, body, webRequest("PATCH"));
+
+        verify(orderService).patchOrder(orderId, patch, ExpectedVersion.ofBody(3L));
+    }
+
+    @Test
+    void testPatchMapsIfMatchOntoTheExpectedVersion() throws Exception {
+        ObjectNode body = (ObjectNode) objectMapper.readTree("{\"version\": 3}");
+        OrderPatch patch = new OrderPatch(null, false, null);
+        when(orderService.patchOrder(orderId, patch, new ExpectedVersion(3L, 2L))).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", "/orders/" + orderId);
+        request.addHeader(HttpHeaders.IF_MATCH, EntityTags.of(new Revision(2L, LAST_MODIFIED)));
+
+        orderController.patch(orderId, body, new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        verify(orderService).patchOrder(orderId, patch, new ExpectedVersion(3L, 2L));
+    }
+
+    @Test
+    void testPatchRejectsInvalidPatches() throws Exception {
+        for (String json : List.of("{\"items\": []}", "{\"status\": null}", "{\"status\": \"GONE\"}",
+                "{\"discount\": -1}")) {
+            ObjectNode body = (ObjectNode) objectMapper.readTree(json);
+
+            assertThrows(InvalidPatchException.class,
+                () -> orderController.patch(orderId, body, webRequest("PATCH")), json);
+        }
+        verify(orderService, never()).patchOrder(any(), any(), any());
     }
 
     @Test
@@ -136,4 +425,8 @@ class DefaultOrderControllerTest {
         verify(orderService).deleteOrderById(orderId);
         assertEquals(204, response.getStatusCodeValue());
     }
+
+    private static ServletWebRequest webRequest(String method) {
+        return new ServletWebRequest(new MockHttpServletRequest(method, "/orders"), new MockHttpServletResponse());
+    }
 }
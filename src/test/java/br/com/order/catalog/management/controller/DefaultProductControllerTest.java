@@ -1,12 +1,18 @@
 package br.com.order.catalog.management.controller;
 
+import br.com.order.catalog.management.controller.EntityTags;
 import br.com.order.catalog.management.controller.product.DefaultProductController;
 import br.com.order.catalog.management.controller.product.model.CreateProductRequest;
+import br.com.order.catalog.management.controller.product.model.ProductImportResponse;
 import br.com.order.catalog.management.controller.product.model.ProductResponse;
 import br.com.order.catalog.management.controller.product.model.UpdateProductRequest;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.Revision;
 import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
 import br.com.order.catalog.management.mapper.ProductMapper;
+import br.com.order.catalog.management.service.ExpectedVersion;
 import br.com.order.catalog.management.service.ProductService;
 import br.com.order.catalog.management.specification.filter.ProductFilter;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,17 +20,33 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +62,16 @@ class DefaultProductControllerTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-01T10:15:30.123456Z");
+
+    private static final Revision REVISION = new Revision(0L, LAST_MODIFIED);
+
     private UUID productId;
     private Product product;
 
@@ -47,15 +79,20 @@ class DefaultProductControllerTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         productId = UUID.randomUUID();
-        product = new Product(productId, Instant.now(), null, "Product Name", new BigDecimal("100.00"), null, true);
+        product = new Product(productId, Instant.now(), LAST_MODIFIED, "Product Name", Money.of(new BigDecimal("100.00")), null, true, 0L);
     }
 
     @Test
     void shouldFindProductById() {
         when(productService.getProductById(productId)).thenReturn(product);
-        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true));
+        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true, 0L));
+
+        when(productService.getProductRevision(productId)).thenReturn(REVISION);
 
-        EntityModel<ProductResponse> response = productController.findById(productId);
+        ResponseEntity<EntityModel<ProductResponse>> entity = productController.findById(productId, webRequest("GET"));
+        EntityModel<ProductResponse> response = entity.getBody();
+
+        assertEquals(EntityTags.of(REVISION), entity.getHeaders().getETag());
 
         assertNotNull(response);
         assertEquals(productId, response.getContent().id());
@@ -65,16 +102,68 @@ class DefaultProductControllerTest {
         assertTrue(response.hasLink("delete"));
     }
 
+    @Test
+    void shouldExpandTheLinksAgainstTheCurrentRequest() {
+        when(productService.getProductById(productId)).thenReturn(product);
+        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true, 0L));
+        when(productService.getProductRevision(productId)).thenReturn(REVISION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/order-catalog-management/products/" + productId);
+        request.setContextPath("/order-catalog-management");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            EntityModel<ProductResponse> response = productController.findById(productId,
+                new ServletWebRequest(request, new MockHttpServletResponse())).getBody();
+
+            String item = "http://localhost/order-catalog-management/products/" + productId;
+            assertEquals(item, response.getRequiredLink("self").getHref());
+            assertEquals(item, response.getRequiredLink("update").getHref());
+            assertEquals(item, response.getRequiredLink("delete").getHref());
+            assertEquals("http://localhost/order-catalog-management/products{?name,type,active}",
+                response.getRequiredLink("products").getHref());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void shouldFindTheLeanRepresentationWithItsOwnETag() {
+        ProductResponse productResponse = new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true, 0L);
+        when(productService.getProductById(productId)).thenReturn(product);
+        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        when(productService.getProductRevision(productId)).thenReturn(REVISION);
+
+        ResponseEntity<ProductResponse> entity = productController.findLeanById(productId, webRequest("GET"));
+
+        assertEquals(productResponse, entity.getBody());
+        assertEquals(EntityTags.of(REVISION, "lean"), entity.getHeaders().getETag());
+        assertNotEquals(EntityTags.of(REVISION), entity.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenTheETagMatches() {
+        when(productService.getProductRevision(productId)).thenReturn(REVISION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products/" + productId);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, EntityTags.of(REVISION));
+
+        ResponseEntity<EntityModel<ProductResponse>> entity = productController.findById(productId,
+            new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, entity.getStatusCode());
+        verify(productService, never()).getProductById(productId);
+        verify(productMapper, never()).toResponse(any());
+    }
+
     @Test
     void shouldFindAllProducts() {
 
         Pageable pageable = Pageable.unpaged();
 
-        ProductResponse productResponse = new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true);
+        ProductResponse productResponse = new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true, 0L);
         List<ProductResponse> productResponseList = Collections.singletonList(productResponse);
         Page<ProductResponse> expectedPage = new PageImpl<>(productResponseList);
 
-        Product product = new Product(productId, Instant.now(), null, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true);
+        Product product = new Product(productId, Instant.now(), null, "Product Name", Money.of(new BigDecimal("100.00")), ProductType.PRODUCT, true, 0L);
         Page<Product> mockProductPage = new PageImpl<>(Collections.singletonList(product), pageable, 1);
 
         when(productService.getProducts(eq(pageable), any(ProductFilter.class))).thenReturn(mockProductPage);
@@ -92,7 +181,7 @@ class DefaultProductControllerTest {
         CreateProductRequest request = new CreateProductRequest("New Product", new BigDecimal("150.00"), null, true);
         when(productMapper.toDomain(request)).thenReturn(product);
         when(productService.saveProduct(any())).thenReturn(product);
-        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true));
+        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Product Name", new BigDecimal("100.00"), ProductType.PRODUCT, true, 0L));
 
         EntityModel<ProductResponse> response = productController.create(request);
 
@@ -102,17 +191,81 @@ class DefaultProductControllerTest {
         assertTrue(response.hasLink("self"));
     }
 
+    @Test
+    void shouldImportValidLinesAndReportRejectedOnes() throws IOException {
+        UUID existingId = UUID.randomUUID();
+        String body = String.join("\n",
+                "{\"name\":\"Keyboard\",\"price\":120.50,\"type\":\"PRODUCT\",\"active\":true}",
+                "",
+                "{\"id\":\"" + existingId + "\",\"name\":\"Repair\",\"price\":80,\"type\":\"SERVICE\",\"active\":false}",
+                "{\"name\":\"\",\"price\":10,\"type\":\"PRODUCT\",\"active\":true}",
+                "{\"name\":\"Mouse\",",
+                "[]");
+        when(productMapper.toDomain(any(CreateProductRequest.class))).thenAnswer(invocation -> {
+            CreateProductRequest request = invocation.getArgument(0);
+            return Product.newProduct(request.name(), Money.of(request.price()), request.type(), request.active());
+        });
+        List<Product> imported = new ArrayList<>();
+        when(productService.importProducts(any())).thenAnswer(invocation -> {
+            invocation.<Stream<Product>>getArgument(0).forEach(imported::add);
+            return (long) imported.size();
+        });
+
+        ProductImportResponse response = productController.importProducts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, response.imported());
+        assertEquals(3, response.failed());
+        assertEquals(List.of("Keyboard", "Repair"), imported.stream().map(Product::getName).toList());
+        assertEquals(existingId, imported.get(1).getId());
+        assertEquals(List.of(4L, 5L, 6L), response.errors().stream().map(ProductImportResponse.RowError::line).toList());
+        assertEquals("Validation failed for fields: [name: Product name is required] ", response.errors().get(0).error());
+        assertTrue(response.errors().get(1).error().startsWith("Malformed product"));
+        assertTrue(response.rowsPerSecond() > 0);
+    }
+
     @Test
     void shouldUpdateProduct() {
-        UpdateProductRequest updateRequest = new UpdateProductRequest("Updated Product", new BigDecimal("200.00"), null, true);
-        when(productService.updateProduct(eq(productId), any())).thenReturn(product);
-        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Updated Product", new BigDecimal("200.00"), ProductType.PRODUCT, true));
+        UpdateProductRequest updateRequest = new UpdateProductRequest("Updated Product", new BigDecimal("200.00"), null, true, null);
+        when(productService.updateProduct(eq(productId), any(), any())).thenReturn(product);
+        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Updated Product", new BigDecimal("200.00"), ProductType.PRODUCT, true, 0L));
 
-        EntityModel<ProductResponse> response = productController.update(productId, updateRequest);
+        ResponseEntity<EntityModel<ProductResponse>> entity = productController.update(productId, updateRequest,
+            webRequest("PUT"));
+        EntityModel<ProductResponse> response = entity.getBody();
 
         assertNotNull(response);
         assertEquals("Updated Product", response.getContent().name());
         assertTrue(response.hasLink("self"));
+        assertEquals(EntityTags.of(REVISION), entity.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldMapIfMatchOntoTheExpectedVersionOfTheUpdate() {
+        UpdateProductRequest updateRequest = new UpdateProductRequest("Updated Product", new BigDecimal("200.00"), null, true, null);
+        when(productService.updateProduct(productId, updateRequest, new ExpectedVersion(null, 3L))).thenReturn(product);
+        when(productMapper.toResponse(product)).thenReturn(new ProductResponse(productId, "Updated Product", new BigDecimal("200.00"), ProductType.PRODUCT, true, 0L));
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/products/" + productId);
+        request.addHeader(HttpHeaders.IF_MATCH, EntityTags.of(new Revision(3L, LAST_MODIFIED)));
+
+        ResponseEntity<EntityModel<ProductResponse>> entity = productController.update(productId, updateRequest,
+            new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.OK, entity.getStatusCode());
+        verify(productService).updateProduct(productId, updateRequest, new ExpectedVersion(null, 3L));
+        verify(productService, never()).getProductRevision(any());
+    }
+
+    @Test
+    void shouldRejectAnUpdateWithAMalformedIfMatch() {
+        UpdateProductRequest updateRequest = new UpdateProductRequest("Updated Product", new BigDecimal("200.00"), null, true, null);
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/products/" + productId);
+        request.addHeader(HttpHeaders.IF_MATCH, "\"not-a-tag\"");
+        ServletWebRequest webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
+        assertThrows(PreconditionFailedException.class,
+            () -> productController.update(productId, updateRequest, webRequest));
+        verify(productService, never()).updateProduct(any(), any(), any());
     }
 
     @Test
@@ -124,4 +277,8 @@ class DefaultProductControllerTest {
         assertEquals(204, response.getStatusCodeValue());
         verify(productService).deleteProductById(productId);
     }
+
+    private static ServletWebRequest webRequest(String method) {
+        return new ServletWebRequest(new MockHttpServletRequest(method, "/products"), new MockHttpServletResponse());
+    }
 }
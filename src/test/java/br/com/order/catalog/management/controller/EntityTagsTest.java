@@ -0,0 +1,41 @@
+package br.com.order.catalog.management.controller;
+
+import br.com.order.catalog.management.domain.Revision;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    private static final Revision REVISION = new Revision(7L, Instant.parse("2026-01-01T10:15:30.123456Z"));
+
+    @Test
+    void givenARevision_whenTagIt_thenChangeWithItsVersionAndLastModification() {
+        assertNotEquals(EntityTags.of(REVISION), EntityTags.of(new Revision(8L, REVISION.lastModified())));
+        assertNotEquals(EntityTags.of(REVISION),
+            EntityTags.of(new Revision(7L, REVISION.lastModified().plusNanos(1_000))));
+        assertNotEquals(EntityTags.of(REVISION), EntityTags.of(REVISION, "lean"));
+    }
+
+    @Test
+    void givenTheTagsOfARevision_whenVersionOf_thenReturnItsVersion() {
+        assertEquals(7L, EntityTags.versionOf(EntityTags.of(REVISION)));
+        assertEquals(7L, EntityTags.versionOf(EntityTags.of(REVISION) + ", " + EntityTags.of(REVISION, "lean")));
+    }
+
+    @Test
+    void givenNoTagOrAnyTag_whenVersionOf_thenExpectNoVersion() {
+        assertNull(EntityTags.versionOf(null));
+        assertNull(EntityTags.versionOf("*"));
+    }
+
+    @Test
+    void givenATagThatCannotMatch_whenVersionOf_thenFailThePrecondition() {
+        for (String ifMatch : new String[] {"W/" + EntityTags.of(REVISION), "\"abc\"", "7-x",
+            EntityTags.of(REVISION) + ", " + EntityTags.of(new Revision(8L, REVISION.lastModified()))}) {
+            assertThrows(PreconditionFailedException.class, () -> EntityTags.versionOf(ifMatch), ifMatch);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.order.catalog.management.domain;
+
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import jakarta.validation.Validation;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+  @Test
+  public void givenABigDecimal_whenCallOf_thenRoundHalfEvenToCents() {
+    Assertions.assertEquals(1002L, Money.of(new BigDecimal("10.025")).cents());
+    Assertions.assertEquals(1004L, Money.of(new BigDecimal("10.035")).cents());
+    Assertions.assertEquals(new BigDecimal("10.00"), Money.of(BigDecimal.TEN).toBigDecimal());
+  }
+
+  @Test
+  public void givenAQuantity_whenCallTimes_thenMultiplyExactly() {
+    Assertions.assertEquals(Money.of(new BigDecimal("39999.50")),
+        Money.of(new BigDecimal("799.99")).times(50));
+  }
+
+  @Test
+  public void givenAPercentage_whenCallPercentage_thenRoundHalfEven() {
+    Assertions.assertEquals(Money.ofCents(2L), Money.ofCents(50L).percentage(5));
+    Assertions.assertEquals(Money.ofCents(4L), Money.ofCents(70L).percentage(5));
+    Assertions.assertEquals(Money.ofCents(66L), Money.ofCents(70L).minusPercentageOf(Money.ofCents(70L), 5));
+  }
+
+  @Test
+  public void givenAnOverflow_whenOperate_thenThrowInsteadOfWrapping() {
+    var max = Money.ofCents(Long.MAX_VALUE);
+
+    Assertions.assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1L)));
+    Assertions.assertThrows(ArithmeticException.class, () -> max.times(2));
+    Assertions.assertThrows(ArithmeticException.class, () -> max.percentage(10));
+    Assertions.assertThrows(ArithmeticException.class,
+        () -> Money.of(new BigDecimal("1e20")));
+  }
+
+  @Test
+  public void givenANonPositivePrice_whenValidateEntity_thenReportViolation() {
+    try (var factory = Validation.buildDefaultValidatorFactory()) {
+      var entity = new ProductJpaEntity(UUID.randomUUID(), "Product", Money.ZERO,
+          ProductType.PRODUCT, true);
+
+      var violations = factory.getValidator().validate(entity);
+
+      Assertions.assertEquals(1, violations.size());
+      Assertions.assertEquals("Product price must be positive",
+          violations.iterator().next().getMessage());
+    }
+  }
+}
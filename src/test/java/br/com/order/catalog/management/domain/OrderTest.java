@@ -27,15 +27,15 @@ public class OrderTest {
 
     var expectedOrderStatus = OrderStatus.OPEN;
 
-    var expectedProduct1 = Product.newProduct("product1", BigDecimal.valueOf(100),
+    var expectedProduct1 = Product.newProduct("product1", Money.of(BigDecimal.valueOf(100)),
         ProductType.PRODUCT,
         true);
 
-    var expectedProduct2 = Product.newProduct("product2", BigDecimal.valueOf(100),
+    var expectedProduct2 = Product.newProduct("product2", Money.of(BigDecimal.valueOf(100)),
         ProductType.PRODUCT,
         true);
 
-    var expectedProduct3 = Product.newProduct("product3", BigDecimal.valueOf(50),
+    var expectedProduct3 = Product.newProduct("product3", Money.of(BigDecimal.valueOf(50)),
         ProductType.SERVICE,
         true);
 
@@ -53,7 +53,7 @@ public class OrderTest {
     Assertions.assertNotNull(actualOrder.getId());
     Assertions.assertNotNull(actualOrder.getStatus());
     Assertions.assertNotNull(actualOrder.getItems());
-    Assertions.assertNotNull(actualOrder.getTotal());
+    Assertions.assertNotNull(actualOrder.getTotal().toBigDecimal());
     Assertions.assertNotNull(actualOrder.getStatus());
   }
 
@@ -62,11 +62,11 @@ public class OrderTest {
 
     var expectedOrderStatus = OrderStatus.OPEN;
 
-    var expectedProduct1 = Product.newProduct("product1", BigDecimal.valueOf(100),
+    var expectedProduct1 = Product.newProduct("product1", Money.of(BigDecimal.valueOf(100)),
         ProductType.PRODUCT,
         true);
 
-    var expectedProduct2 = Product.newProduct("product2", BigDecimal.valueOf(100),
+    var expectedProduct2 = Product.newProduct("product2", Money.of(BigDecimal.valueOf(100)),
         ProductType.PRODUCT,
         false);
 
@@ -91,11 +91,11 @@ public class OrderTest {
       return Stream.of(
           Arguments.of(
               List.of(
-                  Product.newProduct("product1", new BigDecimal("50.00"), ProductType.PRODUCT,
+                  Product.newProduct("product1", Money.of(new BigDecimal("50.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product2", new BigDecimal("30.00"), ProductType.PRODUCT,
+                  Product.newProduct("product2", Money.of(new BigDecimal("30.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product3", new BigDecimal("10.00"), ProductType.SERVICE, true)
+                  Product.newProduct("product3", Money.of(new BigDecimal("10.00")), ProductType.SERVICE, true)
               ),
               10,
               new BigDecimal("82.00").setScale(MONEY_SCALE, RoundingMode.HALF_EVEN),
@@ -103,11 +103,11 @@ public class OrderTest {
           ),
           Arguments.of(
               List.of(
-                  Product.newProduct("product1", new BigDecimal("70.00"), ProductType.PRODUCT,
+                  Product.newProduct("product1", Money.of(new BigDecimal("70.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product2", new BigDecimal("40.00"), ProductType.PRODUCT,
+                  Product.newProduct("product2", Money.of(new BigDecimal("40.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product3", new BigDecimal("20.00"), ProductType.SERVICE, true)
+                  Product.newProduct("product3", Money.of(new BigDecimal("20.00")), ProductType.SERVICE, true)
               ),
               15,
               new BigDecimal("113.50").setScale(MONEY_SCALE, RoundingMode.HALF_EVEN),
@@ -115,11 +115,11 @@ public class OrderTest {
           ),
           Arguments.of(
               List.of(
-                  Product.newProduct("product1", new BigDecimal("60.00"), ProductType.PRODUCT,
+                  Product.newProduct("product1", Money.of(new BigDecimal("60.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product2", new BigDecimal("50.00"), ProductType.PRODUCT,
+                  Product.newProduct("product2", Money.of(new BigDecimal("50.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product3", new BigDecimal("30.00"), ProductType.SERVICE, true)
+                  Product.newProduct("product3", Money.of(new BigDecimal("30.00")), ProductType.SERVICE, true)
               ),
               17,
               new BigDecimal("121.30").setScale(MONEY_SCALE, RoundingMode.HALF_EVEN),
@@ -127,11 +127,11 @@ public class OrderTest {
           ),
           Arguments.of(
               List.of(
-                  Product.newProduct("product1", new BigDecimal("60.00"), ProductType.PRODUCT,
+                  Product.newProduct("product1", Money.of(new BigDecimal("60.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product2", new BigDecimal("50.00"), ProductType.PRODUCT,
+                  Product.newProduct("product2", Money.of(new BigDecimal("50.00")), ProductType.PRODUCT,
                       true),
-                  Product.newProduct("product3", new BigDecimal("30.00"), ProductType.SERVICE, true)
+                  Product.newProduct("product3", Money.of(new BigDecimal("30.00")), ProductType.SERVICE, true)
               ),
               17,
               new BigDecimal("140.00").setScale(MONEY_SCALE, RoundingMode.HALF_EVEN),
@@ -152,6 +152,7 @@ public class OrderTest {
       var productsTotal = products.stream()
           .filter(product -> product.getType() == ProductType.PRODUCT)
           .map(Product::getPrice)
+          .map(Money::toBigDecimal)
           .reduce(BigDecimal.ZERO, BigDecimal::add);
 
       var productsDiscount = Objects.equals(expectedOrderStatus, OrderStatus.OPEN) ? productsTotal
@@ -161,14 +162,15 @@ public class OrderTest {
 
       var calculatedExpectedTotal = products.stream()
           .map(Product::getPrice)
+          .map(Money::toBigDecimal)
           .reduce(BigDecimal.ZERO, BigDecimal::add)
           .subtract(productsDiscount)
           .setScale(MONEY_SCALE, RoundingMode.HALF_EVEN);
 
       var actualOrder = Order.newOrder(expectedOrderStatus, expectedItems, discount);
 
-      Assertions.assertEquals(expectedTotal, actualOrder.getTotal());
-      Assertions.assertEquals(calculatedExpectedTotal, actualOrder.getTotal());
+      Assertions.assertEquals(expectedTotal, actualOrder.getTotal().toBigDecimal());
+      Assertions.assertEquals(calculatedExpectedTotal, actualOrder.getTotal().toBigDecimal());
     }
 
   }
@@ -181,9 +183,9 @@ public class OrderTest {
 
       // Given an initial order
       var initialStatus = OrderStatus.OPEN;
-      var initialProduct1 = Product.newProduct("initialProduct1", BigDecimal.valueOf(50),
+      var initialProduct1 = Product.newProduct("initialProduct1", Money.of(BigDecimal.valueOf(50)),
           ProductType.SERVICE, true);
-      var initialProduct2 = Product.newProduct("initialProduct2", BigDecimal.valueOf(30),
+      var initialProduct2 = Product.newProduct("initialProduct2", Money.of(BigDecimal.valueOf(30)),
           ProductType.PRODUCT, true);
       var initialDiscount = 5;
 
@@ -196,9 +198,9 @@ public class OrderTest {
 
       // When updating the order
       var newStatus = OrderStatus.CLOSED;
-      var newProduct1 = Product.newProduct("newProduct1", BigDecimal.valueOf(100),
+      var newProduct1 = Product.newProduct("newProduct1", Money.of(BigDecimal.valueOf(100)),
           ProductType.PRODUCT, true);
-      var newProduct2 = Product.newProduct("newProduct2", BigDecimal.valueOf(50),
+      var newProduct2 = Product.newProduct("newProduct2", Money.of(BigDecimal.valueOf(50)),
           ProductType.SERVICE, true);
       var newDiscount = 10;
 
@@ -215,7 +217,7 @@ public class OrderTest {
       Assertions.assertEquals(newStatus, order.getStatus());
       Assertions.assertEquals(newDiscount, order.getDiscount());
       Assertions.assertEquals(2, order.getItems().size());
-      Assertions.assertEquals(expectedTotal, order.getTotal());
+      Assertions.assertEquals(expectedTotal, order.getTotal().toBigDecimal());
       Assertions.assertTrue(order.getItems().stream()
           .anyMatch(item -> item.getProduct().getName().equals("newProduct1")));
       Assertions.assertTrue(order.getItems().stream()
@@ -227,7 +229,7 @@ public class OrderTest {
 
       // Given an initial order with items
       var initialStatus = OrderStatus.OPEN;
-      var initialProduct = Product.newProduct("initialProduct", BigDecimal.valueOf(100),
+      var initialProduct = Product.newProduct("initialProduct", Money.of(BigDecimal.valueOf(100)),
           ProductType.PRODUCT, true);
       var initialDiscount = 5;
 
@@ -250,7 +252,7 @@ public class OrderTest {
       Assertions.assertEquals(newStatus, order.getStatus());
       Assertions.assertEquals(newDiscount, order.getDiscount());
       Assertions.assertTrue(order.getItems().isEmpty());
-      Assertions.assertEquals(expectedTotal, order.getTotal());
+      Assertions.assertEquals(expectedTotal, order.getTotal().toBigDecimal());
     }
   }
 
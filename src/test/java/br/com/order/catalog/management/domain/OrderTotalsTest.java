@@ -0,0 +1,105 @@
+package br.com.order.catalog.management.domain;
+
+import br.com.order.catalog.management.domain.order.OrderItem;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.order.OrderTotals;
+import br.com.order.catalog.management.domain.product.Product;
+import br.com.order.catalog.management.domain.product.ProductType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class OrderTotalsTest {
+
+  @Test
+  public void givenProductsAndServices_whenCalculate_thenReturnBreakdown() {
+    var items = List.of(
+        OrderItem.newOrderItem(
+            Product.newProduct("product1", Money.of(new BigDecimal("50.00")), ProductType.PRODUCT, true), 2),
+        OrderItem.newOrderItem(
+            Product.newProduct("product2", Money.of(new BigDecimal("30.00")), ProductType.PRODUCT, true), 1),
+        OrderItem.newOrderItem(
+            Product.newProduct("service1", Money.of(new BigDecimal("10.00")), ProductType.SERVICE, true), 3)
+    );
+
+    var totals = OrderTotals.calculate(items, OrderStatus.OPEN, 10);
+
+    Assertions.assertEquals(Money.of(new BigDecimal("130.00")), totals.productsSubtotal());
+    Assertions.assertEquals(Money.of(new BigDecimal("30.00")), totals.servicesSubtotal());
+    Assertions.assertEquals(Money.of(new BigDecimal("13.00")), totals.discountAmount());
+    Assertions.assertEquals(Money.of(new BigDecimal("147.00")), totals.total());
+  }
+
+  @Test
+  public void givenAClosedOrder_whenCalculate_thenDoNotApplyDiscount() {
+    var items = List.of(OrderItem.newOrderItem(
+        Product.newProduct("product1", Money.of(new BigDecimal("60.00")), ProductType.PRODUCT, true), 1));
+
+    var totals = OrderTotals.calculate(items, OrderStatus.CLOSED, 17);
+
+    Assertions.assertEquals(Money.of(new BigDecimal("0.00")), totals.discountAmount());
+    Assertions.assertEquals(Money.of(new BigDecimal("60.00")), totals.total());
+  }
+
+  @Test
+  public void givenANullDiscount_whenCalculate_thenDoNotApplyDiscount() {
+    var items = List.of(OrderItem.newOrderItem(
+        Product.newProduct("product1", Money.of(new BigDecimal("60.00")), ProductType.PRODUCT, true), 1));
+
+    var totals = OrderTotals.calculate(items, OrderStatus.OPEN, null);
+
+    Assertions.assertEquals(Money.of(new BigDecimal("60.00")), totals.total());
+  }
+
+  @Test
+  public void givenAHalfCentDiscount_whenCalculate_thenRoundHalfEven() {
+    // 0.50 * 5% = 0.025 -> 0.475 rounds to 0.48; 0.70 * 5% = 0.035 -> 0.665 rounds to 0.66
+    var evenItems = List.of(OrderItem.newOrderItem(
+        Product.newProduct("product1", Money.of(new BigDecimal("0.50")), ProductType.PRODUCT, true), 1));
+    var oddItems = List.of(OrderItem.newOrderItem(
+        Product.newProduct("product1", Money.of(new BigDecimal("0.70")), ProductType.PRODUCT, true), 1));
+
+    Assertions.assertEquals(Money.of(new BigDecimal("0.48")),
+        OrderTotals.calculate(evenItems, OrderStatus.OPEN, 5).total());
+    Assertions.assertEquals(Money.of(new BigDecimal("0.66")),
+        OrderTotals.calculate(oddItems, OrderStatus.OPEN, 5).total());
+  }
+
+  @Test
+  public void givenRandomItems_whenCalculate_thenMatchBigDecimalReference() {
+    var random = new Random(7);
+    for (int round = 0; round < 200; round++) {
+      var items = new HashSet<OrderItem>();
+      for (int i = 0; i < 1 + random.nextInt(20); i++) {
+        var type = random.nextBoolean() ? ProductType.PRODUCT : ProductType.SERVICE;
+        var price = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+        items.add(OrderItem.newOrderItem(Product.newProduct("p" + i, Money.of(price), type, true),
+            1 + random.nextInt(100)));
+      }
+      var discount = random.nextInt(101);
+
+      Assertions.assertEquals(referenceTotal(items, discount),
+          OrderTotals.calculate(items, OrderStatus.OPEN, discount).total().toBigDecimal());
+    }
+  }
+
+  private static BigDecimal referenceTotal(Set<OrderItem> items, int discount) {
+    var products = BigDecimal.ZERO;
+    var services = BigDecimal.ZERO;
+    for (var item : items) {
+      if (item.getProduct().getType() == ProductType.PRODUCT) {
+        products = products.add(item.getSubtotal().toBigDecimal());
+      } else {
+        services = services.add(item.getSubtotal().toBigDecimal());
+      }
+    }
+    var discountAmount = products.multiply(
+        BigDecimal.valueOf(discount).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_EVEN));
+    return services.add(products.subtract(discountAmount)).setScale(2, RoundingMode.HALF_EVEN);
+  }
+}
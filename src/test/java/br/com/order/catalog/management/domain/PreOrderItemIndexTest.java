@@ -0,0 +1,72 @@
+package br.com.order.catalog.management.domain;
+
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.order.PreOrder;
+import br.com.order.catalog.management.domain.order.PreOrderItem;
+import br.com.order.catalog.management.domain.order.PreOrderItemIndex;
+import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
+import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PreOrderItemIndexTest {
+
+  @Test
+  public void givenDuplicatedLines_whenIndexItems_thenMergeAmounts() {
+    var productId = UUID.randomUUID();
+    var otherProductId = UUID.randomUUID();
+    var preOrder = new PreOrder(OrderStatus.OPEN, List.of(
+        new PreOrderItem(productId, 2),
+        new PreOrderItem(otherProductId, 1),
+        new PreOrderItem(productId, 3)
+    ), 0);
+
+    var index = preOrder.indexItems();
+
+    Assertions.assertEquals(2, index.size());
+    Assertions.assertEquals(5, index.amountOf(productId));
+    Assertions.assertEquals(1, index.amountOf(otherProductId));
+    Assertions.assertEquals(Set.of(productId, otherProductId), index.ids());
+  }
+
+  @Test
+  public void givenManyLines_whenIndexItems_thenFindEveryAmount() {
+    var items = new ArrayList<PreOrderItem>();
+    for (int i = 0; i < 5_000; i++) {
+      items.add(new PreOrderItem(new UUID(0x0190_0000_0000_7000L + i, 0x8000_0000_0000_0000L), i + 1));
+    }
+
+    var index = PreOrderItemIndex.of(items);
+
+    Assertions.assertEquals(5_000, index.size());
+    items.forEach(item -> Assertions.assertEquals(item.amount(), index.amountOf(item.id())));
+  }
+
+  @Test
+  public void givenAnUnknownId_whenCallAmountOf_thenThrowResourceNotFound() {
+    var index = PreOrderItemIndex.of(List.of(new PreOrderItem(UUID.randomUUID(), 1)));
+
+    Assertions.assertFalse(index.contains(UUID.randomUUID()));
+    Assertions.assertThrows(ResourceNotFoundException.class,
+        () -> index.amountOf(UUID.randomUUID()));
+  }
+
+  @Test
+  public void givenNoItems_whenIndexItems_thenReturnEmptyIndex() {
+    var index = new PreOrder(OrderStatus.OPEN, null, 0).indexItems();
+
+    Assertions.assertEquals(0, index.size());
+    Assertions.assertTrue(index.ids().isEmpty());
+  }
+
+  @Test
+  public void givenALineWithoutAmount_whenIndexItems_thenThrowInvalidItem() {
+    var items = List.of(new PreOrderItem(UUID.randomUUID(), null));
+
+    Assertions.assertThrows(InvalidItemExceptionException.class, () -> PreOrderItemIndex.of(items));
+  }
+}
@@ -20,7 +20,7 @@ public class ProductTest {
   @Test
   public void givenValidParams_whenCallNewProduct_thenInstantiate() {
     var expectedName = "Test Product";
-    var expectedPrice = new BigDecimal("100.00");
+    var expectedPrice = Money.of(new BigDecimal("100.00"));
     var expectedType = ProductType.PRODUCT;
     var expectedActive = true;
 
@@ -37,11 +37,11 @@ public class ProductTest {
 
   @Test
   public void givenValidParams_whenCallUpdate_thenUpdateProductSuccessfully() {
-    var initialProduct = Product.newProduct("Old Product", new BigDecimal("50.00"),
+    var initialProduct = Product.newProduct("Old Product", Money.of(new BigDecimal("50.00")),
         ProductType.SERVICE, false);
 
     var newName = "Updated Product";
-    var newPrice = new BigDecimal("75.00");
+    var newPrice = Money.of(new BigDecimal("75.00"));
     var newType = ProductType.PRODUCT;
     var newActive = true;
 
@@ -68,21 +68,21 @@ public class ProductTest {
     @MethodSource("providePriceTestCases")
     public void givenVariousPrices_whenCallNewProduct_thenValidatePrice(BigDecimal inputPrice,
         BigDecimal expectedPrice) {
-      var product = Product.newProduct("Test Product", inputPrice, ProductType.PRODUCT, true);
+      var product = Product.newProduct("Test Product", Money.of(inputPrice), ProductType.PRODUCT, true);
 
       // Ensuring price is non-negative
       if (inputPrice.compareTo(BigDecimal.ZERO) < 0) {
-        product.update(product.getName(), BigDecimal.ZERO, product.getType(), product.isActive());
+        product.update(product.getName(), Money.ZERO, product.getType(), product.isActive());
       }
 
       Assertions.assertEquals(expectedPrice.setScale(2, RoundingMode.HALF_EVEN),
-          product.getPrice());
+          product.getPrice().toBigDecimal());
     }
   }
 
   @Test
   public void givenInactiveProduct_whenUpdateActiveStatus_thenActivateProduct() {
-    var product = Product.newProduct("Inactive Product", new BigDecimal("50.00"),
+    var product = Product.newProduct("Inactive Product", Money.of(new BigDecimal("50.00")),
         ProductType.PRODUCT, false);
 
     Assertions.assertFalse(product.isActive());
@@ -96,8 +96,8 @@ public class ProductTest {
   public void givenUUID_whenCreateProduct_thenIdShouldMatch() {
     var expectedId = UUID.randomUUID();
     var now = Instant.now();
-    var product = new Product(expectedId, now, null, "Test Product", new BigDecimal("100.00"),
-        ProductType.PRODUCT, true);
+    var product = new Product(expectedId, now, null, "Test Product", Money.of(new BigDecimal("100.00")),
+        ProductType.PRODUCT, true, 0L);
 
     Assertions.assertEquals(expectedId, product.getId());
   }
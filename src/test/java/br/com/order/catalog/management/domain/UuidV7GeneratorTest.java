@@ -0,0 +1,107 @@
+package br.com.order.catalog.management.domain;
+
+import br.com.order.catalog.management.domain.identifier.UuidV7Generator;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class UuidV7GeneratorTest {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:15:30.123Z");
+
+  @Test
+  public void givenAClock_whenNextId_thenReturnVersion7WithTheTimestamp() {
+    var generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    var id = generator.nextId();
+
+    Assertions.assertEquals(7, id.version());
+    Assertions.assertEquals(2, id.variant());
+    Assertions.assertEquals(NOW.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  public void givenTheSameMillisecond_whenNextId_thenIdsAreStrictlyIncreasing() {
+    var generator = new UuidV7Generator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    var previous = generator.nextId();
+    // more ids than the 12-bit counter holds, so it must carry into the timestamp
+    for (int i = 0; i < 10_000; i++) {
+      var next = generator.nextId();
+      Assertions.assertTrue(compareUnsigned(previous, next) < 0);
+      previous = next;
+    }
+  }
+
+  @Test
+  public void givenAClockGoingBackwards_whenNextId_thenIdsKeepIncreasing() {
+    var millis = new long[]{NOW.toEpochMilli()};
+    var generator = new UuidV7Generator(new Clock() {
+      @Override
+      public ZoneOffset getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        return Instant.ofEpochMilli(millis[0]);
+      }
+    });
+
+    var first = generator.nextId();
+    millis[0] -= 1_000;
+    var second = generator.nextId();
+
+    Assertions.assertTrue(compareUnsigned(first, second) < 0);
+  }
+
+  @Test
+  public void givenConcurrentCallers_whenNextId_thenIdsAreUnique() throws Exception {
+    var generator = UuidV7Generator.getInstance();
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var tasks = new ArrayList<Callable<List<UUID>>>();
+      for (int t = 0; t < 8; t++) {
+        tasks.add(() -> {
+          var ids = new ArrayList<UUID>();
+          for (int i = 0; i < 5_000; i++) {
+            ids.add(generator.nextId());
+          }
+          return ids;
+        });
+      }
+      var all = new HashSet<UUID>();
+      for (Future<List<UUID>> future : executor.invokeAll(tasks)) {
+        var ids = future.get();
+        for (int i = 1; i < ids.size(); i++) {
+          Assertions.assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0);
+        }
+        all.addAll(ids);
+      }
+      Assertions.assertEquals(40_000, all.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static int compareUnsigned(UUID left, UUID right) {
+    var result = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+    return result != 0 ? result
+        : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+  }
+}
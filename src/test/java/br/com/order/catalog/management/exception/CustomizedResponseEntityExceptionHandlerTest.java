@@ -1,9 +1,15 @@
 package br.com.order.catalog.management.exception;
 
+import br.com.order.catalog.management.exceptions.BatchTooLargeException;
 import br.com.order.catalog.management.exceptions.ExceptionResponse;
+import br.com.order.catalog.management.exceptions.InvalidCursorException;
 import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
 import br.com.order.catalog.management.exceptions.ProductLinkedToOrderException;
 import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
+import br.com.order.catalog.management.exceptions.InvalidPatchException;
+import br.com.order.catalog.management.exceptions.OrderIntakeTimeoutException;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
+import br.com.order.catalog.management.exceptions.VersionConflictException;
 import br.com.order.catalog.management.exceptions.handler.CustomizedResponseEntityExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,4 +68,82 @@ class CustomizedResponseEntityExceptionHandlerTest {
         assertEquals("Product linked to an order", response.getBody().getMessage());
         assertEquals("Attempt to delete product linked to an order", response.getBody().getDetails());
     }
+
+    @Test
+    void handleBatchTooLargeException() {
+        BatchTooLargeException exception = new BatchTooLargeException("A batch must have at most 1000 orders, got 1001");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("Attempt to create too many orders at once");
+
+        ResponseEntity<ExceptionResponse> response = exceptionHandler.handleBatchTooLargeException(exception, request);
+
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, response.getStatusCode());
+        assertEquals("A batch must have at most 1000 orders, got 1001", response.getBody().getMessage());
+        assertEquals("Attempt to create too many orders at once", response.getBody().getDetails());
+    }
+
+    @Test
+    void handleVersionConflictException() {
+        VersionConflictException exception = new VersionConflictException("Order was changed by another request, it is no longer at version 3");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("Attempt to update an order from a stale version");
+
+        ResponseEntity<ExceptionResponse> response = exceptionHandler.handleVersionConflictException(exception, request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Order was changed by another request, it is no longer at version 3", response.getBody().getMessage());
+        assertEquals("Attempt to update an order from a stale version", response.getBody().getDetails());
+    }
+
+    @Test
+    void handleInvalidPatchException() {
+        InvalidPatchException exception = new InvalidPatchException("Field cannot be patched: items");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("Attempt to patch the items of an order");
+
+        ResponseEntity<ExceptionResponse> response = exceptionHandler.handleInvalidPatchException(exception, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Field cannot be patched: items", response.getBody().getMessage());
+        assertEquals("Attempt to patch the items of an order", response.getBody().getDetails());
+    }
+
+    @Test
+    void handleOrderIntakeTimeoutException() {
+        OrderIntakeTimeoutException exception = new OrderIntakeTimeoutException("Order creation took too long, the order may still be created");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("Attempt to create an order while the intake is busy");
+
+        ResponseEntity<ExceptionResponse> response = exceptionHandler.handleOrderIntakeTimeoutException(exception, request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("Order creation took too long, the order may still be created", response.getBody().getMessage());
+        assertEquals("Attempt to create an order while the intake is busy", response.getBody().getDetails());
+    }
+
+    @Test
+    void handlePreconditionFailedException() {
+        PreconditionFailedException exception = new PreconditionFailedException("Order has changed since the ETag in If-Match");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("Attempt to update an order with a stale ETag");
+
+        ResponseEntity<ExceptionResponse> response = exceptionHandler.handlePreconditionFailedException(exception, request);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("Order has changed since the ETag in If-Match", response.getBody().getMessage());
+        assertEquals("Attempt to update an order with a stale ETag", response.getBody().getDetails());
+    }
+
+    @Test
+    void handleInvalidCursorException() {
+        InvalidCursorException exception = new InvalidCursorException("Malformed cursor");
+        WebRequest request = mock(WebRequest.class);
+        when(request.getDescription(false)).thenReturn("Attempt to scroll orders with a tampered cursor");
+
+        ResponseEntity<ExceptionResponse> response = exceptionHandler.handleInvalidCursorException(exception, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Malformed cursor", response.getBody().getMessage());
+        assertEquals("Attempt to scroll orders with a tampered cursor", response.getBody().getDetails());
+    }
 }
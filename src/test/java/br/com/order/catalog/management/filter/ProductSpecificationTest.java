@@ -46,12 +46,26 @@ class ProductSpecificationTest {
         Predicate predicate = mock(Predicate.class);
         when(criteriaBuilder.conjunction()).thenReturn(predicate);
         when(criteriaBuilder.lower(root.get("name"))).thenReturn(mock(jakarta.persistence.criteria.Expression.class));
-        when(criteriaBuilder.like(any(), eq("%testproduct%"))).thenReturn(predicate);
+        when(criteriaBuilder.like(any(), eq("%testproduct%"), eq('\\'))).thenReturn(predicate);
 
         Specification<ProductJpaEntity> specification = ProductSpecification.withFilters(filter);
         Predicate result = specification.toPredicate(root, query, criteriaBuilder);
 
-        verify(criteriaBuilder).like(any(), eq("%testproduct%"));
+        verify(criteriaBuilder).like(any(), eq("%testproduct%"), eq('\\'));
+    }
+
+    @Test
+    void shouldEscapeLikeWildcardsInNameFilter() {
+        ProductFilter filter = new ProductFilter();
+        filter.setName("50%_OFF\\");
+
+        Predicate predicate = mock(Predicate.class);
+        when(criteriaBuilder.conjunction()).thenReturn(predicate);
+
+        Specification<ProductJpaEntity> specification = ProductSpecification.withFilters(filter);
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        verify(criteriaBuilder).like(any(), eq("%50\\%\\_off\\\\%"), eq('\\'));
     }
 
     @Test
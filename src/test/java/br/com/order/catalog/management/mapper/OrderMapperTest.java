@@ -1,5 +1,6 @@
 package br.com.order.catalog.management.mapper;
 
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.controller.order.DefaultOrderController;
 import br.com.order.catalog.management.controller.order.model.CreateOrderRequest;
 import br.com.order.catalog.management.controller.order.model.OrderResponse;
@@ -58,17 +59,17 @@ class OrderMapperTest {
         orderEntity.setStatus(OrderStatus.OPEN);
         orderEntity.setDiscount(10);
 
-        ProductJpaEntity productJpaEntity = new ProductJpaEntity(productId, "Sample Product", new BigDecimal("200"), ProductType.PRODUCT, true);
+        ProductJpaEntity productJpaEntity = new ProductJpaEntity(productId, "Sample Product", Money.of(new BigDecimal("200")), ProductType.PRODUCT, true);
         List<OrderItemJpaEntity> orderItems = List.of(new OrderItemJpaEntity(orderItemId, orderEntity, productJpaEntity, 10));
         orderEntity.setItems(orderItems);
-        orderEntity.setTotal(BigDecimal.valueOf(100.0));
+        orderEntity.setTotal(Money.of(BigDecimal.valueOf(100.0)));
 
         items = new HashSet<>();
-        Product product = Product.newProduct("Sample Product", new BigDecimal("20"), ProductType.PRODUCT, true);
+        Product product = Product.newProduct("Sample Product", Money.of(new BigDecimal("20")), ProductType.PRODUCT, true);
         OrderItem item = OrderItem.newOrderItem(product, 10);
         items.add(item);
 
-        order = new Order(orderId, null, null, OrderStatus.OPEN, items, 10, BigDecimal.valueOf(100.0));
+        order = new Order(orderId, null, null, OrderStatus.OPEN, items, 10, Money.of(BigDecimal.valueOf(100.0)), 0L);
 
         when(orderMapper.toDomain(any(CreateOrderRequest.class))).thenReturn(order);
         when(orderMapper.toDomain(any(UpdateOrderRequest.class))).thenReturn(order);
@@ -84,20 +85,20 @@ class OrderMapperTest {
         assertEquals(orderId, result.getId());
         assertEquals(OrderStatus.OPEN, result.getStatus());
         assertEquals(10, result.getDiscount());
-        assertEquals(BigDecimal.valueOf(100.0), result.getTotal());
+        assertEquals(Money.of(BigDecimal.valueOf(100.0)), result.getTotal());
         assertEquals(items, result.getItems());
     }
 
     @Test
     void testToResponse() {
-        when(orderMapper.toResponse(order)).thenReturn(new OrderResponse(orderId, OrderStatus.OPEN, new ArrayList<>(), 10, BigDecimal.valueOf(100.0)));
+        when(orderMapper.toResponse(order)).thenReturn(new OrderResponse(orderId, OrderStatus.OPEN, new ArrayList<>(), 10, new BigDecimal("100.00"), 0L));
 
         OrderResponse response = orderMapper.toResponse(order);
 
         assertNotNull(response);
         assertEquals(order.getId(), response.id());
         assertEquals(order.getStatus(), response.status());
-        assertEquals(order.getTotal(), response.total());
+        assertEquals(order.getTotal().toBigDecimal(), response.total());
     }
 
     @Test
@@ -116,7 +117,7 @@ class OrderMapperTest {
 
     @Test
     void testToDomainFromCreateOrderRequest() {
-        Product product = new Product(UUID.randomUUID(), Instant.now(), null, "Sample Product", BigDecimal.valueOf(20.0), ProductType.PRODUCT, true);
+        Product product = new Product(UUID.randomUUID(), Instant.now(), null, "Sample Product", Money.of(BigDecimal.valueOf(20.0)), ProductType.PRODUCT, true, 0L);
         PreOrderItem preOrderItem = new PreOrderItem(product.getId(), 10);
 
         List<PreOrderItem> items = new ArrayList<>();
@@ -136,13 +137,13 @@ class OrderMapperTest {
     void testToDomainFromUpdateOrderRequest() {
         UUID preOrderItemId = UUID.randomUUID();
 
-        Product product = Product.newProduct("Sample Product", new BigDecimal("20"), ProductType.PRODUCT, true);
+        Product product = Product.newProduct("Sample Product", Money.of(new BigDecimal("20")), ProductType.PRODUCT, true);
         OrderItem orderItem = OrderItem.newOrderItem(product, 10);
 
         List<PreOrderItem> preOrderItems = new ArrayList<>();
         preOrderItems.add(new PreOrderItem(preOrderItemId, 10));
 
-        UpdateOrderRequest request = new UpdateOrderRequest(OrderStatus.OPEN, preOrderItems, 5);
+        UpdateOrderRequest request = new UpdateOrderRequest(OrderStatus.OPEN, preOrderItems, 5, null);
 
         Order result = orderMapper.toDomain(request);
 
@@ -1,5 +1,6 @@
 package br.com.order.catalog.management.mapper;
 
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.controller.order.model.CreateOrderRequest;
 import br.com.order.catalog.management.controller.order.model.UpdateOrderRequest;
 import br.com.order.catalog.management.domain.order.OrderItem;
@@ -66,7 +67,7 @@ class PreOrderMapperTest {
 
     @Test
     void testToPreOrderItemFromOrderItem() {
-        Product product = Product.newProduct("Test Product", new BigDecimal("50.0"), ProductType.PRODUCT, true);
+        Product product = Product.newProduct("Test Product", Money.of(new BigDecimal("50.0")), ProductType.PRODUCT, true);
         OrderItem orderItem = OrderItem.newOrderItem(product, 5);
 
         PreOrderItem preOrderItem = preOrderMapper.toPreOrderItem(orderItem);
@@ -82,7 +83,7 @@ class PreOrderMapperTest {
                 OrderStatus.OPEN,
                 List.of(new PreOrderItem(productId, 3)),
                 5
-        );
+        , null);
 
         PreOrder preOrder = preOrderMapper.toDomain(updateOrderRequest);
 
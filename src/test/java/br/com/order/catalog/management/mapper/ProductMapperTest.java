@@ -1,5 +1,6 @@
 package br.com.order.catalog.management.mapper;
 
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.controller.product.model.CreateProductRequest;
 import br.com.order.catalog.management.controller.product.model.ProductResponse;
 import br.com.order.catalog.management.domain.product.Product;
@@ -25,7 +26,7 @@ class ProductMapperTest {
 
     @Test
     void shouldMapProductToEntity() {
-        Product product = new Product(UUID.randomUUID(), null, null, "Product Name", new BigDecimal("99.99"), ProductType.PRODUCT, true);
+        Product product = new Product(UUID.randomUUID(), null, null, "Product Name", Money.of(new BigDecimal("99.99")), ProductType.PRODUCT, true, 0L);
         ProductJpaEntity entity = productMapper.toEntity(product);
 
         assertNotNull(entity);
@@ -40,7 +41,7 @@ class ProductMapperTest {
         ProductJpaEntity entity = new ProductJpaEntity();
         entity.setId(UUID.randomUUID());
         entity.setName("Entity Name");
-        entity.setPrice(new BigDecimal("150.00"));
+        entity.setPrice(Money.of(new BigDecimal("150.00")));
         entity.setType(ProductType.PRODUCT);
         entity.setActive(true);
 
@@ -60,19 +61,19 @@ class ProductMapperTest {
 
         assertNotNull(product);
         assertEquals(request.name(), product.getName());
-        assertEquals(request.price(), product.getPrice());
+        assertEquals(request.price(), product.getPrice().toBigDecimal());
         assertEquals(request.type(), product.getType());
         assertEquals(request.active(), product.isActive());
     }
 
     @Test
     void shouldMapProductToResponse() {
-        Product product = new Product(UUID.randomUUID(), null, null, "Product Name", new BigDecimal("99.99"), ProductType.PRODUCT, true);
+        Product product = new Product(UUID.randomUUID(), null, null, "Product Name", Money.of(new BigDecimal("99.99")), ProductType.PRODUCT, true, 0L);
         ProductResponse response = productMapper.toResponse(product);
 
         assertNotNull(response);
         assertEquals(product.getName(), response.name());
-        assertEquals(product.getPrice(), response.price());
+        assertEquals(product.getPrice().toBigDecimal(), response.price());
         assertEquals(product.getType(), response.type());
         assertEquals(product.isActive(), response.active());
     }
@@ -0,0 +1,69 @@
+package br.com.order.catalog.management.pagination;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.exceptions.InvalidCursorException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    void givenNoSort_whenFirst_thenSortById() {
+        var cursor = CursorCodec.ORDERS.first(null);
+
+        assertEquals(Sort.by("id"), cursor.sort());
+        assertTrue(cursor.position().isInitial());
+    }
+
+    @Test
+    void givenAWindowWithNext_whenToPageAndDecode_thenReturnThePositionOfItsLastElement() {
+        var id = UUID.randomUUID();
+        var keys = new LinkedHashMap<String, Object>();
+        keys.put("price", Money.of(new BigDecimal("10.50")));
+        keys.put("id", id);
+        var sort = Sort.by(Sort.Direction.DESC, "price");
+        var window = Window.from(List.of("first", "last"),
+            index -> ScrollPosition.forward(index == 1 ? keys : Map.of()), true);
+
+        var page = CursorCodec.PRODUCTS.toPage(window, sort);
+        var cursor = CursorCodec.PRODUCTS.decode(page.next());
+
+        assertEquals(List.of("first", "last"), page.content());
+        assertEquals(sort, cursor.sort());
+        assertEquals(keys, cursor.position().getKeys());
+    }
+
+    @Test
+    void givenTheLastWindow_whenToPage_thenHasNoNextCursor() {
+        var window = Window.from(List.of("only"), index -> ScrollPosition.keyset(), false);
+
+        assertNull(CursorCodec.ORDERS.toPage(window, Sort.by("id")).next());
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenFirst_thenThrow() {
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.ORDERS.first("name"));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.PRODUCTS.first("price,sideways"));
+    }
+
+    @Test
+    void givenATamperedCursor_whenDecode_thenThrow() {
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.ORDERS.decode("not a cursor"));
+        assertThrows(InvalidCursorException.class, () -> CursorCodec.ORDERS.decode("c29ydD10b3RhbA"));
+    }
+
+    @Test
+    void givenAnOutOfRangeSize_whenWindowSize_thenClamp() {
+        assertEquals(1, CursorCodec.windowSize(0));
+        assertEquals(100, CursorCodec.windowSize(10_000));
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.order.catalog.management.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on a real Postgres and checks with EXPLAIN that the foreign key and
+ * filter predicates can be served by the indexes created for them. Sequential scans are disabled
+ * so the plan shows whether an index is usable, whatever the planner would pick for tiny tables.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MigrationIndexesTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:/db/migration")
+            .load()
+            .migrate();
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+            POSTGRES.getPassword());
+        try (var statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "SELECT * FROM order_items WHERE order_id = '00000000-0000-0000-0000-000000000000'::uuid   | idx_order_items_order_id",
+        "SELECT * FROM order_items WHERE product_id = '00000000-0000-0000-0000-000000000000'::uuid | idx_order_items_product_id",
+        "SELECT * FROM orders WHERE status = 'OPEN'                     | idx_orders_status",
+        "SELECT * FROM products WHERE active AND type = 'PRODUCT'       | idx_products_active_type",
+        "SELECT * FROM products WHERE lower(name) LIKE '%keyb%'         | idx_products_name_trgm"
+    })
+    void givenAFilteredQuery_whenExplain_thenUseItsIndex(String query, String index) throws SQLException {
+        assertTrue(explain(query).contains(index), () -> index + " not used by " + query);
+    }
+
+    private static String explain(String query) throws SQLException {
+        final var plan = new StringBuilder();
+        try (var statement = connection.createStatement();
+             var result = statement.executeQuery("EXPLAIN " + query)) {
+            while (result.next()) {
+                plan.append(result.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Updates and deletes products of the migrated schema of a real Postgres with the single
+ * statement {@code RETURNING} paths, which H2 does not support. Skipped when Docker is not
+ * available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ProductRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-02-01T10:00:00Z");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void givenAStoredProduct_whenUpdateById_thenReturnItsNewState() {
+        final var stored = productRepository.saveAndFlush(product());
+
+        final var updated = productRepository.updateById(stored.getId(), "new",
+            Money.of(new BigDecimal("12.34")), ProductType.SERVICE, false, UPDATED_AT, 0L).orElseThrow();
+
+        assertEquals("new", updated.getName());
+        assertEquals(0, updated.getPrice().compareTo(Money.of(new BigDecimal("12.34"))));
+        assertEquals(ProductType.SERVICE, updated.getType());
+        assertFalse(updated.isActive());
+        assertEquals(UPDATED_AT, updated.getUpdatedAt());
+        assertEquals(CREATED_AT, updated.getCreatedAt());
+        assertEquals(1L, updated.getVersion());
+        assertFalse(entityManager.contains(stored));
+        assertEquals("new", productRepository.findById(stored.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void givenAMissingProduct_whenUpdateById_thenReturnEmpty() {
+        assertTrue(productRepository.updateById(UUID.randomUUID(), "new",
+            Money.of(BigDecimal.ONE), ProductType.PRODUCT, true, UPDATED_AT, null).isEmpty());
+    }
+
+    @Test
+    void givenAnotherVersion_whenUpdateById_thenLeaveTheProductAsItIs() {
+        final var stored = productRepository.saveAndFlush(product());
+
+        assertTrue(productRepository.updateById(stored.getId(), "new", Money.of(BigDecimal.ONE),
+            ProductType.PRODUCT, true, UPDATED_AT, 1L).isEmpty());
+        assertEquals("old", productRepository.findById(stored.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    void givenAStoredProduct_whenDeleteIfExists_thenDeleteItOnce() {
+        final var stored = productRepository.saveAndFlush(product());
+
+        assertTrue(productRepository.deleteIfExists(stored.getId()));
+        assertFalse(productRepository.deleteIfExists(stored.getId()));
+        assertTrue(productRepository.findById(stored.getId()).isEmpty());
+    }
+
+    private static ProductJpaEntity product() {
+        final var product = new ProductJpaEntity(UUID.randomUUID(), "old", Money.of(BigDecimal.ONE),
+            ProductType.PRODUCT, true);
+        product.setCreatedAt(CREATED_AT);
+        product.setUpdatedAt(CREATED_AT);
+        return product;
+    }
+}
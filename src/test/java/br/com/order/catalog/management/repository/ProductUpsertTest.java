@@ -0,0 +1,107 @@
+package br.com.order.catalog.management.repository;
+
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Copies products into the migrated schema of a real Postgres, checking that new ids are
+ * inserted, existing ones updated without touching their creation time, and that the last row of
+ * a repeated id wins. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ProductUpsertTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    private static final Instant IMPORTED_AT = Instant.parse("2026-02-01T10:00:00Z");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .locations("classpath:/db/migration")
+            .load()
+            .migrate();
+        connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(),
+            POSTGRES.getPassword());
+        connection.setAutoCommit(false);
+    }
+
+    @AfterEach
+    void rollback() throws SQLException {
+        connection.rollback();
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void givenNewAndExistingProducts_whenUpsertAll_thenInsertAndUpdateThem() throws SQLException {
+        final var existingId = UUID.randomUUID();
+        try (var statement = connection.prepareStatement(
+            "INSERT INTO products (id, name, price, type, active, created_at, updated_at) VALUES (?, 'old', 1, 'PRODUCT', true, ?, ?)")) {
+            statement.setObject(1, existingId);
+            statement.setObject(2, CREATED_AT.atOffset(ZoneOffset.UTC));
+            statement.setObject(3, CREATED_AT.atOffset(ZoneOffset.UTC));
+            statement.executeUpdate();
+        }
+        final var newId = UUID.randomUUID();
+
+        final var upserted = ProductUpsert.upsertAll(connection, Stream.of(
+            product(existingId, "first, \"quoted\""),
+            product(newId, "new"),
+            product(existingId, "last, \"quoted\"")));
+
+        assertEquals(2, upserted);
+        try (var statement = connection.prepareStatement(
+            "SELECT name, price, created_at FROM products WHERE id = ?")) {
+            statement.setObject(1, existingId);
+            try (var row = statement.executeQuery()) {
+                assertTrue(row.next());
+                assertEquals("last, \"quoted\"", row.getString("name"));
+                assertEquals(new BigDecimal("12.34"), row.getBigDecimal("price"));
+                assertEquals(CREATED_AT, row.getObject("created_at", OffsetDateTime.class).toInstant());
+            }
+            statement.setObject(1, newId);
+            try (var row = statement.executeQuery()) {
+                assertTrue(row.next());
+                assertEquals("new", row.getString("name"));
+            }
+        }
+    }
+
+    private static ProductJpaEntity product(UUID id, String name) {
+        final var product = new ProductJpaEntity(id, name, Money.of(new BigDecimal("12.34")),
+            ProductType.SERVICE, false);
+        product.setCreatedAt(IMPORTED_AT);
+        product.setUpdatedAt(IMPORTED_AT);
+        return product;
+    }
+}
@@ -0,0 +1,162 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.cache.ProductCache;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.order.PreOrder;
+import br.com.order.catalog.management.domain.order.PreOrderItem;
+import br.com.order.catalog.management.domain.product.Product;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.OrderItemJpaEntity;
+import br.com.order.catalog.management.entity.OrderJpaEntity;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import br.com.order.catalog.management.mapper.OrderMapperImpl;
+import br.com.order.catalog.management.mapper.ProductMapperImpl;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements issued by the create paths against an in-memory database: new orders and
+ * products must be inserted without being selected first, a batch of orders must read its
+ * products once and be written in JDBC batches, and a rejected order must not fail the others.
+ */
+@DataJpaTest
+@Import({DefaultOrderService.class, DefaultProductService.class, ProductCache.class, ListingCache.class,
+    OrderMapperImpl.class, ProductMapperImpl.class})
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class CreateQueryCountTest {
+
+    private static final int ORDERS = 200;
+
+    private static final int PRODUCTS = 10;
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Autowired
+    private DefaultOrderService orderService;
+
+    @Autowired
+    private DefaultProductService productService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> productIds = new ArrayList<>();
+
+    private UUID inactiveProductId;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(persistProduct("product" + i, true));
+        }
+        inactiveProductId = persistProduct("inactive", false);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void givenANewOrder_whenCreateOrder_thenInsertItWithoutSelectingIt() {
+        final var preOrder = new PreOrder(OrderStatus.OPEN, List.of(
+            new PreOrderItem(productIds.get(0), 1),
+            new PreOrderItem(productIds.get(1), 2),
+            new PreOrderItem(productIds.get(2), 3)), 10);
+
+        orderService.createOrder(preOrder);
+        entityManager.flush();
+
+        // the products, then the order and one batch of its three items
+        assertEquals(0, statistics.getEntityStatistics(OrderJpaEntity.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(OrderItemJpaEntity.class.getName()).getLoadCount());
+        assertEquals(4, statistics.getEntityInsertCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenANewProduct_whenSaveProduct_thenInsertItWithoutSelectingIt() {
+        productService.saveProduct(
+            Product.newProduct("new", Money.ofCents(1_000), ProductType.PRODUCT, true));
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenABatchOfOrders_whenCreateOrders_thenInsertThemInJdbcBatches() {
+        final var preOrders = new ArrayList<PreOrder>();
+        for (int i = 0; i < ORDERS; i++) {
+            preOrders.add(new PreOrder(OrderStatus.OPEN, List.of(
+                new PreOrderItem(productIds.get(i % PRODUCTS), 1),
+                new PreOrderItem(productIds.get((i + 1) % PRODUCTS), 2)), 10));
+        }
+
+        final var results = orderService.createOrders(preOrders);
+
+        assertEquals(ORDERS, results.size());
+        assertTrue(results.stream().noneMatch(BatchResult::isFailed));
+        assertEquals(ORDERS * 3, statistics.getEntityInsertCount());
+        // one select of the products, then one insert of the orders and one of the items, each
+        // executed in batches of 50
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        entityManager.clear();
+        assertEquals(ORDERS, entityManager.getEntityManager()
+            .createQuery("select count(o) from OrderJpaEntity o", Long.class).getSingleResult());
+    }
+
+    @Test
+    void givenARejectedOrder_whenCreateOrders_thenCreateTheOthers() {
+        final var preOrders = List.of(
+            new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(productIds.get(0), 1)), 0),
+            new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(inactiveProductId, 1)), 0),
+            new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(productIds.get(1), 1)), 0));
+
+        final var results = orderService.createOrders(preOrders);
+
+        assertFalse(results.get(0).isFailed());
+        assertTrue(results.get(1).isFailed());
+        assertNotNull(results.get(1).error());
+        assertFalse(results.get(2).isFailed());
+        entityManager.clear();
+        assertNotNull(entityManager.find(OrderJpaEntity.class, results.get(0).value().getId()));
+        assertNotNull(entityManager.find(OrderJpaEntity.class, results.get(2).value().getId()));
+    }
+
+    private UUID persistProduct(String name, boolean active) {
+        final var product = new ProductJpaEntity(UUID.randomUUID(), name, Money.ofCents(1_000),
+            ProductType.PRODUCT, active);
+        product.setCreatedAt(CREATED_AT);
+        product.setUpdatedAt(CREATED_AT);
+        return entityManager.persist(product).getId();
+    }
+}
@@ -1,11 +1,14 @@
 package br.com.order.catalog.management.service;
 
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.domain.Money;
 import br.com.order.catalog.management.domain.order.*;
 import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.domain.product.ProductType;
 import br.com.order.catalog.management.entity.OrderJpaEntity;
 import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
 import br.com.order.catalog.management.mapper.OrderMapper;
+import br.com.order.catalog.management.repository.IdempotencyKeyRepository;
 import br.com.order.catalog.management.repository.OrderRepository;
 
 import br.com.order.catalog.management.specification.filter.OrderFilter;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -36,12 +40,18 @@ class DefaultOrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
     @Mock
     private OrderMapper orderMapper;
 
     @Mock
     private ProductService productService;
 
+    @Spy
+    private ListingCache listingCache = new ListingCache("maximumSize=100");
+
     @InjectMocks
     private DefaultOrderService orderService;
 
@@ -56,7 +66,7 @@ class DefaultOrderServiceTest {
         UUID productId = UUID.randomUUID();
 
         List<PreOrderItem> preOrderItems = Collections.singletonList(new PreOrderItem(productId, 10));
-        Product product = Product.newProduct("Smartphone", new BigDecimal("799.99"), ProductType.PRODUCT, true);
+        Product product = Product.newProduct("Smartphone", Money.of(new BigDecimal("799.99")), ProductType.PRODUCT, true);
         orderItem = OrderItem.newOrderItem(product, 2);
 
         preOrder = new PreOrder(OrderStatus.OPEN, preOrderItems, 10);
@@ -73,26 +83,35 @@ class DefaultOrderServiceTest {
 
         OrderFilter orderFilter = new OrderFilter();
 
-        when(orderRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(expectedPage);
+        when(orderRepository.findPageWithItems(any(Specification.class), eq(pageable))).thenReturn(expectedPage);
         when(orderMapper.toDomain(orderJpaEntity)).thenReturn(order);
 
         Page<Order> result = orderService.getOrders(pageable, orderFilter);
 
         assertEquals(expectedPage.getTotalElements(), result.getTotalElements());
         assertEquals(expectedPage.getContent().size(), result.getContent().size());
-        verify(orderRepository).findAll(any(Specification.class), eq(pageable));
+        verify(orderRepository).findPageWithItems(any(Specification.class), eq(pageable));
         verify(orderMapper, atLeastOnce()).toDomain(any(OrderJpaEntity.class));
     }
 
+    @Test
+    void shouldEstimateTheOrderCountOnlyWithoutFilters() {
+        when(orderRepository.estimatedCount()).thenReturn(OptionalLong.of(2_300_000));
+
+        assertEquals(OptionalLong.of(2_300_000), orderService.estimateOrderCount(new OrderFilter()));
+        assertEquals(OptionalLong.empty(), orderService.estimateOrderCount(new OrderFilter("OPEN")));
+        verify(orderRepository, times(1)).estimatedCount();
+    }
+
     @Test
     void shouldCreateOrderSuccessfully() {
         UUID productId = UUID.randomUUID();
-        Product product = new Product(productId, Instant.now(), null, "Laptop", new BigDecimal("1200.00"), ProductType.PRODUCT, true);
+        Product product = new Product(productId, Instant.now(), null, "Laptop", Money.of(new BigDecimal("1200.00")), ProductType.PRODUCT, true, 0L);
 
         preOrder = new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(productId, 1)), 10);
 
         when(productService.getProductsById(preOrder.getItemIds())).thenReturn(Set.of(product));
-        when(orderMapper.toEntity(any())).thenReturn(new OrderJpaEntity());
+        when(orderMapper.toNewEntity(any())).thenReturn(new OrderJpaEntity());
         when(orderRepository.save(any())).thenReturn(new OrderJpaEntity());
         when(orderMapper.toDomain(any(OrderJpaEntity.class))).thenReturn(order);
 
@@ -103,26 +122,95 @@ class DefaultOrderServiceTest {
     }
 
     @Test
-    void shouldUpdateOrderSuccessfully() {
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(new OrderJpaEntity()));
-        when(orderMapper.toDomain(any(OrderJpaEntity.class))).thenReturn(order);
-        when(orderMapper.toEntity(any())).thenReturn(new OrderJpaEntity());
+    void shouldCreateOrderOnceClaimingItsIdempotencyKey() {
+        UUID productId = UUID.randomUUID();
+        Product product = new Product(productId, Instant.now(), null, "Laptop", Money.of(new BigDecimal("1200.00")), ProductType.PRODUCT, true, 0L);
+
+        preOrder = new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(productId, 1)), 10);
+
+        when(orderRepository.findByIdempotencyKey("key")).thenReturn(Optional.empty());
+        when(productService.getProductsById(preOrder.getItemIds())).thenReturn(Set.of(product));
+        when(idempotencyKeyRepository.claim(eq("key"), any(), any())).thenReturn(1);
+        when(orderMapper.toNewEntity(any())).thenReturn(new OrderJpaEntity());
         when(orderRepository.save(any())).thenReturn(new OrderJpaEntity());
+        when(orderMapper.toDomain(any(OrderJpaEntity.class))).thenReturn(order);
 
-        Order result = orderService.updateOrder(orderId, preOrder);
+        Order result = orderService.createOrder(preOrder, "key");
 
         assertEquals(order, result);
         verify(orderRepository).save(any());
     }
 
+    @Test
+    void shouldReturnTheOrderAlreadyCreatedWithTheIdempotencyKey() {
+        OrderJpaEntity orderJpaEntity = new OrderJpaEntity();
+        when(orderRepository.findByIdempotencyKey("key")).thenReturn(Optional.of(orderJpaEntity));
+        when(orderMapper.toDomain(orderJpaEntity)).thenReturn(order);
+
+        Order result = orderService.createOrder(preOrder, "key");
+
+        assertEquals(order, result);
+        verifyNoInteractions(productService, idempotencyKeyRepository);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReturnTheOrderOfTheRequestThatClaimedTheIdempotencyKeyFirst() {
+        UUID productId = UUID.randomUUID();
+        Product product = new Product(productId, Instant.now(), null, "Laptop", Money.of(new BigDecimal("1200.00")), ProductType.PRODUCT, true, 0L);
+        OrderJpaEntity orderJpaEntity = new OrderJpaEntity();
+
+        preOrder = new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(productId, 1)), 10);
+
+        when(orderRepository.findByIdempotencyKey("key"))
+            .thenReturn(Optional.empty(), Optional.of(orderJpaEntity));
+        when(productService.getProductsById(preOrder.getItemIds())).thenReturn(Set.of(product));
+        when(idempotencyKeyRepository.claim(eq("key"), any(), any())).thenReturn(0);
+        when(orderMapper.toDomain(orderJpaEntity)).thenReturn(order);
+
+        Order result = orderService.createOrder(preOrder, "key");
+
+        assertEquals(order, result);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldUpdateOrderSuccessfully() {
+        OrderJpaEntity orderJpaEntity = new OrderJpaEntity();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(orderJpaEntity));
+        when(orderMapper.toDomain(orderJpaEntity)).thenReturn(order);
+
+        Order result = orderService.updateOrder(orderId, preOrder, ExpectedVersion.ANY);
+
+        assertEquals(order, result);
+        verify(orderMapper).updateEntity(order, orderJpaEntity);
+        verify(orderRepository, never()).save(any());
+    }
+
     @Test
     void shouldThrowResourceNotFoundExceptionWhenUpdatingNonExistentOrder() {
         when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
 
-        assertThrows(ResourceNotFoundException.class, () -> orderService.updateOrder(orderId, preOrder));
+        assertThrows(ResourceNotFoundException.class, () -> orderService.updateOrder(orderId, preOrder, ExpectedVersion.ANY));
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    void shouldPatchOrderKeepingItsItems() {
+        OrderJpaEntity orderJpaEntity = new OrderJpaEntity();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(orderJpaEntity));
+        when(orderMapper.toDomain(orderJpaEntity)).thenReturn(order);
+
+        Order result = orderService.patchOrder(orderId, new OrderPatch(OrderStatus.CLOSED, false, null), ExpectedVersion.ANY);
+
+        assertEquals(OrderStatus.CLOSED, result.getStatus());
+        assertEquals(10, result.getDiscount());
+        assertEquals(Set.of(orderItem), result.getItems());
+        verify(orderMapper).patchEntity(order, orderJpaEntity);
+        verify(orderMapper, never()).updateEntity(any(), any());
+        verifyNoInteractions(productService);
+    }
+
     @Test
     void shouldReturnOrderByIdSuccessfully() {
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(new OrderJpaEntity()));
@@ -1,5 +1,7 @@
 package br.com.order.catalog.management.service;
 
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.Revision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -8,17 +10,24 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.cache.ProductCache;
 import br.com.order.catalog.management.controller.product.model.UpdateProductRequest;
 import br.com.order.catalog.management.domain.product.Product;
 import br.com.order.catalog.management.domain.product.ProductType;
 import br.com.order.catalog.management.entity.ProductJpaEntity;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
 import br.com.order.catalog.management.exceptions.ProductLinkedToOrderException;
 import br.com.order.catalog.management.exceptions.ResourceNotFoundException;
+import br.com.order.catalog.management.exceptions.VersionConflictException;
 import br.com.order.catalog.management.mapper.ProductMapper;
 import br.com.order.catalog.management.repository.ProductRepository;
 import java.math.BigDecimal;
@@ -27,6 +36,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import br.com.order.catalog.management.specification.filter.ProductFilter;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,6 +51,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
@@ -55,6 +67,12 @@ class DefaultProductServiceTest {
   @Spy
   private ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
 
+  @Spy
+  private ProductCache productCache = new ProductCache("maximumSize=100");
+
+  @Spy
+  private ListingCache listingCache = new ListingCache("maximumSize=100");
+
   private UUID productId;
   private Product existingProduct;
   private UpdateProductRequest updateProductRequest;
@@ -63,9 +81,9 @@ class DefaultProductServiceTest {
   void setUp() {
     productId = UUID.randomUUID();
     existingProduct = new Product(productId, Instant.now(), null, "Café Especial",
-        new BigDecimal("100.00"), ProductType.PRODUCT, true);
+        Money.of(new BigDecimal("100.00")), ProductType.PRODUCT, true, 0L);
     updateProductRequest = new UpdateProductRequest("Café Premium", new BigDecimal("150.00"),
-        ProductType.PRODUCT, false);
+        ProductType.PRODUCT, false, null);
   }
 
   @Test
@@ -73,7 +91,7 @@ class DefaultProductServiceTest {
 
     Pageable pageable = Pageable.ofSize(10);
 
-    ProductJpaEntity productEntity = new ProductJpaEntity(UUID.randomUUID(), "Café Regular", new BigDecimal("20"), ProductType.PRODUCT, true);
+    ProductJpaEntity productEntity = new ProductJpaEntity(UUID.randomUUID(), "Café Regular", Money.of(new BigDecimal("20")), ProductType.PRODUCT, true);
 
     Page<ProductJpaEntity> expectedPage = new PageImpl<>(List.of(productEntity), pageable, 1);
 
@@ -90,6 +108,28 @@ class DefaultProductServiceTest {
     verify(productRepository).findAll(any(Specification.class), eq(pageable));
   }
 
+  @Test
+  void shouldServeTheSameListingFromTheCacheUntilAProductIsWritten() {
+    Pageable pageable = PageRequest.of(0, 50);
+    ProductJpaEntity productEntity = new ProductJpaEntity(UUID.randomUUID(), "Café Regular", Money.of(new BigDecimal("20")), ProductType.PRODUCT, true);
+    when(productRepository.findAll(any(Specification.class), eq(pageable)))
+        .thenReturn(new PageImpl<>(List.of(productEntity), pageable, 1));
+    when(productRepository.save(any())).thenReturn(new ProductJpaEntity());
+
+    productService.getProducts(pageable, new ProductFilter("Café", "product", true));
+    Page<Product> cached = productService.getProducts(pageable, new ProductFilter("CAFÉ", "PRODUCT", true));
+    cached.getContent().get(0).update("changed", Money.ofCents(1), ProductType.SERVICE, false);
+    Page<Product> again = productService.getProducts(pageable, new ProductFilter("café", "PRODUCT", true));
+
+    verify(productRepository, times(1)).findAll(any(Specification.class), eq(pageable));
+    assertEquals("Café Regular", again.getContent().get(0).getName());
+
+    productService.saveProduct(existingProduct);
+    productService.getProducts(pageable, new ProductFilter("café", "PRODUCT", true));
+
+    verify(productRepository, times(2)).findAll(any(Specification.class), eq(pageable));
+  }
+
   @Test
   void shouldSaveProduct() {
     when(productRepository.save(any())).thenReturn(new ProductJpaEntity());
@@ -102,31 +142,64 @@ class DefaultProductServiceTest {
 
   @Test
   void shouldUpdateProduct() {
-    ProductJpaEntity existingProductEntity = new ProductJpaEntity(productId, "Café Antigo",
-        new BigDecimal("100"), ProductType.PRODUCT, true);
-
-    when(productRepository.findById(productId)).thenReturn(Optional.of(existingProductEntity));
-
-    ProductJpaEntity updatedProductEntity = new ProductJpaEntity(productId, "Café Atualizado",
-        new BigDecimal("150"), ProductType.PRODUCT, true);
-    when(productRepository.save(any(ProductJpaEntity.class))).thenReturn(updatedProductEntity);
+    ProductJpaEntity updatedProductEntity = new ProductJpaEntity(productId, "Café Premium",
+        Money.of(new BigDecimal("150")), ProductType.PRODUCT, false);
+    when(productRepository.updateById(eq(productId), eq("Café Premium"),
+        eq(Money.of(new BigDecimal("150.00"))), eq(ProductType.PRODUCT), eq(false), any(),
+        isNull()))
+        .thenReturn(Optional.of(updatedProductEntity));
 
-    Product result = productService.updateProduct(productId, updateProductRequest);
+    Product result = productService.updateProduct(productId, updateProductRequest, ExpectedVersion.ANY);
 
     assertNotNull(result);
-    assertEquals("Café Atualizado", result.getName());
-    assertEquals(0, result.getPrice().compareTo(new BigDecimal("150")));
-    verify(productRepository).findById(productId);
-    verify(productRepository).save(updatedProductEntity);
+    assertEquals("Café Premium", result.getName());
+    assertEquals(0, result.getPrice().compareTo(Money.of(new BigDecimal("150"))));
+    verify(productRepository, never()).findById(any());
+    verify(productRepository, never()).save(any());
   }
 
   @Test
   void shouldThrowResourceNotFoundExceptionWhenUpdatingNonExistentProduct() {
-    when(productRepository.findById(productId)).thenReturn(Optional.empty());
+    when(productRepository.updateById(eq(productId), any(), any(), any(), any(), any(), any()))
+        .thenReturn(Optional.empty());
 
     assertThrows(ResourceNotFoundException.class,
-        () -> productService.updateProduct(productId, updateProductRequest));
-    verify(productRepository).findById(productId);
+        () -> productService.updateProduct(productId, updateProductRequest, ExpectedVersion.ANY));
+  }
+
+  @Test
+  void shouldThrowVersionConflictExceptionWhenUpdatingAnotherVersion() {
+    final var staleRequest = new UpdateProductRequest("Café Premium", new BigDecimal("150.00"),
+        ProductType.PRODUCT, false, 3L);
+    when(productRepository.updateById(eq(productId), any(), any(), any(), any(), any(), eq(3L)))
+        .thenReturn(Optional.empty());
+    when(productRepository.existsById(productId)).thenReturn(true);
+
+    assertThrows(VersionConflictException.class,
+        () -> productService.updateProduct(productId, staleRequest, ExpectedVersion.ofBody(3L)));
+    verify(productCache, never()).invalidate(any());
+  }
+
+  @Test
+  void shouldThrowPreconditionFailedExceptionWhenIfMatchIsStale() {
+    when(productRepository.updateById(eq(productId), any(), any(), any(), any(), any(), eq(3L)))
+        .thenReturn(Optional.empty());
+    when(productRepository.existsById(productId)).thenReturn(true);
+
+    assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(productId,
+        updateProductRequest, new ExpectedVersion(null, 3L)));
+  }
+
+  @Test
+  void shouldNotWriteWhenTheBodyAndIfMatchExpectDifferentVersions() {
+    when(productRepository.findRevisionById(productId))
+        .thenReturn(Optional.of(new Revision(4L, Instant.now())));
+
+    assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(productId,
+        updateProductRequest, new ExpectedVersion(4L, 3L)));
+    assertThrows(VersionConflictException.class, () -> productService.updateProduct(productId,
+        updateProductRequest, new ExpectedVersion(3L, 4L)));
+    verify(productRepository, never()).updateById(any(), any(), any(), any(), any(), any(), any());
   }
 
   @Test
@@ -151,36 +224,37 @@ class DefaultProductServiceTest {
 
   @Test
   void shouldDeleteProductById() {
-    when(productRepository.existsById(productId)).thenReturn(true);
+    when(productRepository.deleteIfExists(productId)).thenReturn(true);
 
     productService.deleteProductById(productId);
 
-    verify(productRepository).deleteById(productId);
+    verify(productRepository).deleteIfExists(productId);
+    verify(productRepository, never()).existsById(any());
   }
 
   @Test
   void shouldThrowResourceNotFoundExceptionWhenDeletingNonExistentProduct() {
-    when(productRepository.existsById(productId)).thenReturn(false);
+    when(productRepository.deleteIfExists(productId)).thenReturn(false);
 
     assertThrows(ResourceNotFoundException.class,
         () -> productService.deleteProductById(productId));
-    verify(productRepository).existsById(productId);
+    verify(productRepository).deleteIfExists(productId);
   }
 
   @Test
   void shouldThrowProductLinkedToOrderExceptionWhenProductIsLinkedToOrder() {
-    when(productRepository.existsById(productId)).thenReturn(true);
-    doThrow(new DataIntegrityViolationException("")).when(productRepository).deleteById(productId);
+    doThrow(new DataIntegrityViolationException("")).when(productRepository).deleteIfExists(productId);
 
     assertThrows(ProductLinkedToOrderException.class,
         () -> productService.deleteProductById(productId));
-    verify(productRepository).deleteById(productId);
+    verify(productRepository).deleteIfExists(productId);
   }
 
   @Test
   void shouldReturnProductsById() {
     Set<UUID> ids = Set.of(productId);
-    when(productRepository.findAllById(ids)).thenReturn(List.of(new ProductJpaEntity()));
+    when(productRepository.findAllById(ids)).thenReturn(List.of(new ProductJpaEntity(productId,
+        "Café Especial", Money.of(new BigDecimal("100.00")), ProductType.PRODUCT, true)));
 
     Set<Product> products = productService.getProductsById(ids);
 
@@ -188,6 +262,58 @@ class DefaultProductServiceTest {
     verify(productRepository).findAllById(ids);
   }
 
+  @Test
+  void shouldOnlyLoadProductsMissingFromTheCache() {
+    UUID otherId = UUID.randomUUID();
+    when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(new ProductJpaEntity(
+        productId, "Café Especial", Money.of(new BigDecimal("100.00")), ProductType.PRODUCT, true)));
+    when(productRepository.findAllById(Set.of(otherId))).thenReturn(List.of(new ProductJpaEntity(
+        otherId, "Café Gelado", Money.of(new BigDecimal("12.00")), ProductType.PRODUCT, true)));
+
+    productService.getProductsById(Set.of(productId));
+    Set<Product> products = productService.getProductsById(Set.of(productId, otherId));
+
+    assertEquals(Set.of(productId, otherId),
+        products.stream().map(Product::getId).collect(Collectors.toSet()));
+    verify(productRepository).findAllById(Set.of(productId));
+    verify(productRepository).findAllById(Set.of(otherId));
+  }
+
+  @Test
+  void shouldServeCachedProductsAsCopiesUntilUpdated() {
+    ProductJpaEntity productEntity = new ProductJpaEntity(productId, "Café Especial",
+        Money.of(new BigDecimal("100.00")), ProductType.PRODUCT, true);
+    when(productRepository.findById(productId)).thenReturn(Optional.of(productEntity));
+    when(productRepository.updateById(eq(productId), any(), any(), any(), any(), any(), any()))
+        .thenReturn(Optional.of(productEntity));
+
+    productService.getProductById(productId)
+        .update("Alterado", Money.of(new BigDecimal("1.00")), ProductType.SERVICE, false);
+    assertEquals("Café Especial", productService.getProductById(productId).getName());
+    verify(productRepository, times(1)).findById(productId);
+
+    productService.updateProduct(productId, updateProductRequest, ExpectedVersion.ANY);
+    productService.getProductById(productId);
+
+    verify(productRepository, times(2)).findById(productId);
+  }
+
+  @Test
+  void shouldDropCachedProductsWhenImporting() {
+    ProductJpaEntity productEntity = new ProductJpaEntity(productId, "Café Especial",
+        Money.of(new BigDecimal("100.00")), ProductType.PRODUCT, true);
+    when(productRepository.findById(productId)).thenReturn(Optional.of(productEntity));
+    when(productRepository.upsertAll(any())).thenAnswer(invocation ->
+        invocation.<Stream<ProductJpaEntity>>getArgument(0).count());
+
+    productService.getProductById(productId);
+    long imported = productService.importProducts(Stream.of(existingProduct));
+    productService.getProductById(productId);
+
+    assertEquals(1, imported);
+    verify(productRepository, times(2)).findById(productId);
+  }
+
   @Test
   void shouldReturnEmptySetWhenNoProductsFoundByIds() {
     Set<UUID> ids = Set.of(UUID.randomUUID());
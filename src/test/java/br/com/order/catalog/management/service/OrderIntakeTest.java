@@ -0,0 +1,136 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.order.PreOrder;
+import br.com.order.catalog.management.exceptions.InvalidItemExceptionException;
+import br.com.order.catalog.management.exceptions.OrderIntakeTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeTest {
+
+    private static final int REQUESTS = 3;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private OrderService orderService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+
+    private OrderIntake orderIntake;
+
+    @AfterEach
+    void stop() {
+        executor.shutdownNow();
+        if (orderIntake != null) {
+            orderIntake.stop();
+        }
+    }
+
+    @Test
+    void givenConcurrentRequests_whenCreateOrder_thenCreateThemInOneGroup() throws Exception {
+        // the group closes as soon as it is full, long before the wait ends
+        orderIntake = new OrderIntake(orderService, true, REQUESTS, Duration.ofSeconds(10), 100, TIMEOUT);
+        orderIntake.start();
+        final var invalid = new PreOrder(OrderStatus.OPEN, List.of(), 5);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            List<PreOrder> preOrders = invocation.getArgument(0);
+            return preOrders.stream().map(preOrder -> preOrder == invalid
+                ? BatchResult.<Order>failed("Order contains inactive product")
+                : BatchResult.created(Order.newOrder(preOrder.status(), Set.of(), preOrder.discount())))
+                .toList();
+        });
+
+        final var orders = new ArrayList<Future<Order>>();
+        for (int i = 0; i < REQUESTS - 1; i++) {
+            final var preOrder = new PreOrder(OrderStatus.OPEN, List.of(), i);
+            orders.add(executor.submit(() -> orderIntake.createOrder(preOrder)));
+        }
+        final var rejected = executor.submit(() -> orderIntake.createOrder(invalid));
+
+        for (int i = 0; i < REQUESTS - 1; i++) {
+            assertEquals(i, orders.get(i).get(5, TimeUnit.SECONDS).getDiscount());
+        }
+        final var error = assertThrows(Exception.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InvalidItemExceptionException.class, error.getCause());
+        verify(orderService).createOrders(anyList());
+        verify(orderService, never()).createOrder(any());
+    }
+
+    @Test
+    void givenADisabledIntake_whenCreateOrder_thenCreateItOnItsOwn() {
+        orderIntake = new OrderIntake(orderService, false, REQUESTS, Duration.ofMillis(5), 100, TIMEOUT);
+        orderIntake.start();
+        final var preOrder = new PreOrder(OrderStatus.OPEN, List.of(), 0);
+        final var order = Order.newOrder(OrderStatus.OPEN, Set.of(), 0);
+        when(orderService.createOrder(preOrder)).thenReturn(order);
+
+        assertEquals(order, orderIntake.createOrder(preOrder));
+        assertFalse(orderIntake.isRunning());
+        verify(orderService, never()).createOrders(anyList());
+    }
+
+    @Test
+    void givenAGroupFailingWithAnError_whenCreateOrder_thenFailOnlyThatGroup() {
+        orderIntake = new OrderIntake(orderService, true, REQUESTS, Duration.ofMillis(5), 100, TIMEOUT);
+        orderIntake.start();
+        final var preOrder = new PreOrder(OrderStatus.OPEN, List.of(), 0);
+        final var order = Order.newOrder(OrderStatus.OPEN, Set.of(), 0);
+        when(orderService.createOrders(anyList()))
+            .thenThrow(new StackOverflowError())
+            .thenReturn(List.of(BatchResult.created(order)));
+
+        final var error = assertThrows(IllegalStateException.class, () -> orderIntake.createOrder(preOrder));
+
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        assertTrue(orderIntake.isRunning());
+        assertEquals(order, orderIntake.createOrder(preOrder));
+        verify(orderService, never()).createOrder(any());
+    }
+
+    @Test
+    void givenABusyWriter_whenTheTimeoutEnds_thenCreateTheOrdersItHasNotTaken() throws Exception {
+        orderIntake = new OrderIntake(orderService, true, 1, Duration.ofMillis(5), 100, Duration.ofMillis(200));
+        orderIntake.start();
+        final var writing = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var taken = new PreOrder(OrderStatus.OPEN, List.of(), 1);
+        final var queued = new PreOrder(OrderStatus.OPEN, List.of(), 2);
+        final var order = Order.newOrder(OrderStatus.OPEN, Set.of(), 2);
+        when(orderService.createOrders(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(BatchResult.created(Order.newOrder(OrderStatus.OPEN, Set.of(), 1)));
+        });
+        when(orderService.createOrder(queued)).thenReturn(order);
+
+        final var inFlight = executor.submit(() -> orderIntake.createOrder(taken));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+
+        // the writer is stuck on the first group, so the second request is created by its caller
+        assertEquals(order, orderIntake.createOrder(queued));
+        final var error = assertThrows(Exception.class, () -> inFlight.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(OrderIntakeTimeoutException.class, error.getCause());
+        release.countDown();
+        verify(orderService, never()).createOrder(taken);
+    }
+}
@@ -0,0 +1,404 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.cache.ProductCache;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.Revision;
+import br.com.order.catalog.management.domain.order.Order;
+import br.com.order.catalog.management.domain.order.OrderPatch;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.order.PreOrder;
+import br.com.order.catalog.management.domain.order.PreOrderItem;
+import br.com.order.catalog.management.domain.product.Product;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.IdempotencyKeyJpaEntity;
+import br.com.order.catalog.management.entity.OrderItemJpaEntity;
+import br.com.order.catalog.management.entity.OrderJpaEntity;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import br.com.order.catalog.management.exceptions.PreconditionFailedException;
+import br.com.order.catalog.management.exceptions.VersionConflictException;
+import br.com.order.catalog.management.mapper.OrderMapperImpl;
+import br.com.order.catalog.management.mapper.ProductMapperImpl;
+import br.com.order.catalog.management.pagination.CursorCodec;
+import br.com.order.catalog.management.specification.filter.OrderFilter;
+import br.com.order.catalog.management.specification.filter.ProductFilter;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements issued by the order read paths against an in-memory database, so a
+ * change to the mappings or fetch plans that brings back per-order or per-item selects fails,
+ * and the rows an order update writes.
+ */
+@DataJpaTest
+@Import({DefaultOrderService.class, DefaultProductService.class, ProductCache.class, ListingCache.class,
+    OrderMapperImpl.class, ProductMapperImpl.class})
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class OrderQueryCountTest {
+
+    private static final int ORDERS = 50;
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Autowired
+    private DefaultOrderService orderService;
+
+    @Autowired
+    private DefaultProductService productService;
+
+    @Autowired
+    private ListingCache listingCache;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> orderIds = new ArrayList<>();
+
+    private final Map<UUID, Money> orderTotals = new HashMap<>();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        final var products = new ArrayList<ProductJpaEntity>();
+        for (int i = 0; i < ORDERS * ITEMS_PER_ORDER; i++) {
+            final var product = new ProductJpaEntity(UUID.randomUUID(), "product" + i,
+                Money.ofCents(1_000 + i % 10), ProductType.PRODUCT, true);
+            product.setCreatedAt(CREATED_AT);
+            product.setUpdatedAt(CREATED_AT.plusSeconds(i));
+            products.add(entityManager.persist(product));
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            final var order = new OrderJpaEntity();
+            order.setId(UUID.randomUUID());
+            order.setStatus(OrderStatus.OPEN);
+            order.setDiscount(0);
+            order.setTotal(Money.ofCents(1_000L * (i % 7) + i));
+            order.setCreatedAt(CREATED_AT);
+            order.setUpdatedAt(CREATED_AT.plusSeconds(100));
+            final var items = new ArrayList<OrderItemJpaEntity>();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                items.add(new OrderItemJpaEntity(UUID.randomUUID(), order,
+                    products.get(i * ITEMS_PER_ORDER + j), 1));
+            }
+            order.setItems(items);
+            entityManager.persist(order);
+            orderIds.add(order.getId());
+            orderTotals.put(order.getId(), order.getTotal());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        listingCache.invalidate(ListingCache.Table.ORDERS);
+        listingCache.invalidate(ListingCache.Table.PRODUCTS);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void givenAPageOfOrders_whenGetOrders_thenLoadItemsAndProductsInConstantQueries() {
+        final var page = orderService.getOrders(PageRequest.of(0, ORDERS + 1), new OrderFilter());
+
+        assertEquals(ORDERS, page.getNumberOfElements());
+        page.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        // the ids of the page, then those orders joined with their items and products
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenASortedPage_whenGetOrders_thenKeepTheRequestedOrder() {
+        final var expected = orderIds.stream()
+            .sorted(Comparator.comparing(orderTotals::get).reversed())
+            .skip(10)
+            .limit(10)
+            .toList();
+
+        final var page = orderService.getOrders(
+            PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "total")), new OrderFilter());
+
+        assertEquals(expected, page.map(Order::getId).getContent());
+        assertEquals(ORDERS, page.getTotalElements());
+        page.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        // ids of the page, the page itself and the count
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenASortedSlice_whenGetOrderSlice_thenSkipTheCount() {
+        final var expected = orderIds.stream()
+            .sorted(Comparator.comparing(orderTotals::get).reversed())
+            .skip(40)
+            .toList();
+
+        final var slice = orderService.getOrderSlice(
+            PageRequest.of(4, 10, Sort.by(Sort.Direction.DESC, "total")), new OrderFilter());
+
+        assertEquals(expected, slice.map(Order::getId).getContent());
+        assertFalse(slice.hasNext());
+        slice.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+        // ids of the slice and its look-ahead row, then the slice itself
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenAnUnpagedRequest_whenGetOrdersOrTheirSlice_thenReadThemAll() {
+        final var page = orderService.getOrders(Pageable.unpaged(), new OrderFilter());
+        final var slice = orderService.getOrderSlice(Pageable.unpaged(), new OrderFilter());
+
+        assertEquals(ORDERS, page.getNumberOfElements());
+        assertEquals(ORDERS, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    void givenMoreProductsThanTheSlice_whenGetProductSlice_thenReadOneRowAhead() {
+        final var first = productService.getProductSlice(PageRequest.of(0, 100), new ProductFilter());
+        final var last = productService.getProductSlice(PageRequest.of(1, 100), new ProductFilter());
+
+        assertEquals(100, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals(ORDERS * ITEMS_PER_ORDER - 100, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenACursor_whenScrollOrders_thenSeekEveryWindowInOrder() {
+        final var expected = orderIds.stream()
+            .sorted(Comparator.comparing(orderTotals::get).reversed())
+            .toList();
+        final var scrolled = new ArrayList<UUID>();
+
+        var cursor = CursorCodec.ORDERS.first("total,desc");
+        while (true) {
+            statistics.clear();
+            final var window = orderService.scrollOrders(cursor.sort(), cursor.position(), 7,
+                new OrderFilter());
+            window.forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+            // the window, the items of its orders, then their products, which are resolved by id
+            // through the second-level cache (items already loaded for the last window, whose
+            // first order was read as the look-ahead row)
+            assertTrue(statistics.getPrepareStatementCount() <= 3);
+            window.forEach(order -> scrolled.add(order.getId()));
+            final var page = CursorCodec.ORDERS.toPage(window, cursor.sort());
+            if (page.next() == null) {
+                break;
+            }
+            cursor = CursorCodec.ORDERS.decode(page.next());
+        }
+
+        assertEquals(expected, scrolled);
+    }
+
+    @Test
+    void givenTiedPrices_whenScrollProducts_thenBreakTiesById() {
+        final var scrolled = new ArrayList<Product>();
+
+        var cursor = CursorCodec.PRODUCTS.first("price");
+        while (true) {
+            final var window = productService.scrollProducts(cursor.sort(), cursor.position(), 16,
+                new ProductFilter(null, null, null));
+            scrolled.addAll(window.getContent());
+            final var page = CursorCodec.PRODUCTS.toPage(window, cursor.sort());
+            if (page.next() == null) {
+                break;
+            }
+            cursor = CursorCodec.PRODUCTS.decode(page.next());
+        }
+
+        assertEquals(ORDERS * ITEMS_PER_ORDER, scrolled.size());
+        assertEquals(scrolled.stream()
+                .sorted(Comparator.comparing(Product::getPrice)
+                    .thenComparing(product -> product.getId().toString()))
+                .toList(),
+            scrolled);
+    }
+
+    @Test
+    void givenAnOrderId_whenGetOrderRevision_thenTakeTheLatestOfTheOrderAndItsProducts() {
+        // the last order holds products 147 to 149, updated after the order itself
+        final var revision = orderService.getOrderRevision(orderIds.get(ORDERS - 1));
+
+        assertEquals(new Revision(0L, CREATED_AT.plusSeconds(149)), revision);
+        assertEquals(new Revision(0L, CREATED_AT.plusSeconds(100)), orderService.getOrderRevision(orderIds.get(0)));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(revision, orderService.getOrderById(orderIds.get(ORDERS - 1)).revision());
+    }
+
+    @Test
+    void givenAnOrderId_whenGetOrderById_thenLoadTheAggregateInOneQuery() {
+        final var order = orderService.getOrderById(orderIds.get(0));
+
+        assertEquals(ITEMS_PER_ORDER, order.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenAnIdempotencyKey_whenCreateOrderAgain_thenLoadTheCreatedOrderInOneQuery() {
+        final var orderId = orderIds.get(0);
+        entityManager.persist(new IdempotencyKeyJpaEntity("key", orderId, CREATED_AT));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        final var order = orderService.createOrder(new PreOrder(OrderStatus.OPEN, List.of(), 0), "key");
+
+        assertEquals(orderId, order.getId());
+        assertEquals(ITEMS_PER_ORDER, order.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenChangedLines_whenUpdateOrder_thenWriteOnlyTheLinesThatChanged() {
+        final var orderId = orderIds.get(0);
+        final var currentItems = entityManager.find(OrderJpaEntity.class, orderId).getItems();
+        final var itemIds = currentItems.stream().map(OrderItemJpaEntity::getId).toList();
+        final var productIds = currentItems.stream().map(item -> item.getProduct().getId()).toList();
+        final var addedProductId = entityManager.find(OrderJpaEntity.class, orderIds.get(1))
+            .getItems().get(0).getProduct().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // the first line is kept as it is, the second changes its amount, the third is dropped
+        orderService.updateOrder(orderId, new PreOrder(OrderStatus.OPEN, List.of(
+            new PreOrderItem(productIds.get(0), 1),
+            new PreOrderItem(productIds.get(1), 5),
+            new PreOrderItem(addedProductId, 2)), 0), ExpectedVersion.ANY);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        // the order and the line whose amount changed
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+        entityManager.clear();
+        final var items = entityManager.find(OrderJpaEntity.class, orderId).getItems().stream()
+            .collect(Collectors.toMap(item -> item.getProduct().getId(), Function.identity()));
+        assertEquals(Set.of(productIds.get(0), productIds.get(1), addedProductId), items.keySet());
+        assertEquals(itemIds.get(0), items.get(productIds.get(0)).getId());
+        assertEquals(itemIds.get(1), items.get(productIds.get(1)).getId());
+        assertEquals(5, items.get(productIds.get(1)).getAmount());
+    }
+
+    @Test
+    void givenTheCurrentVersion_whenUpdateOrder_thenWriteTheNextOne() {
+        final var orderId = orderIds.get(0);
+        final var preOrder = new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(
+            entityManager.find(OrderJpaEntity.class, orderId).getItems().get(0).getProduct().getId(),
+            1)), 0);
+        entityManager.clear();
+
+        assertEquals(1L, orderService.updateOrder(orderId, preOrder, ExpectedVersion.ofBody(0L)).getVersion());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1L, entityManager.find(OrderJpaEntity.class, orderId).getVersion());
+        assertThrows(VersionConflictException.class,
+            () -> orderService.updateOrder(orderId, preOrder, ExpectedVersion.ofBody(0L)));
+    }
+
+    @Test
+    void givenAnUpdateWrittenMeanwhile_whenUpdateOrder_thenFailOnTheVersion() {
+        final var orderId = orderIds.get(0);
+        // read before the concurrent update, which the persistence context then does not see
+        final var preOrder = new PreOrder(OrderStatus.OPEN, List.of(new PreOrderItem(
+            entityManager.find(OrderJpaEntity.class, orderId).getItems().get(0).getProduct().getId(),
+            1)), 0);
+        entityManager.getEntityManager()
+            .createNativeQuery("UPDATE orders SET version = version + 1 WHERE id = :id")
+            .setParameter("id", orderId)
+            .executeUpdate();
+
+        assertThrows(VersionConflictException.class,
+            () -> orderService.updateOrder(orderId, preOrder, ExpectedVersion.ANY));
+    }
+
+    @Test
+    void givenAStatusAndDiscountPatch_whenPatchOrder_thenWriteOnlyTheOrderRow() {
+        final var orderId = orderIds.get(0);
+        final var lines = entityManager.find(OrderJpaEntity.class, orderId).getItems().stream()
+            .map(item -> item.getProduct().getPrice().times(item.getAmount()))
+            .reduce(Money.ZERO, Money::plus);
+        entityManager.clear();
+        statistics.clear();
+
+        final var order = orderService.patchOrder(orderId, new OrderPatch(null, true, 10), ExpectedVersion.ofBody(0L));
+        entityManager.flush();
+
+        // the joined select of the order, its lines and products, then the versioned update
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityDeleteCount());
+        assertEquals(OrderStatus.OPEN, order.getStatus());
+        assertEquals(lines.minusPercentageOf(lines, 10), order.getTotal());
+        entityManager.clear();
+        final var patched = entityManager.find(OrderJpaEntity.class, orderId);
+        assertEquals(10, patched.getDiscount());
+        assertEquals(1L, patched.getVersion());
+        assertEquals(ITEMS_PER_ORDER, patched.getItems().size());
+    }
+
+    @Test
+    void givenAStaleIfMatch_whenUpdateOrder_thenFailThePreconditionWithoutWriting() {
+        final var orderId = orderIds.get(0);
+        final var preOrder = new PreOrder(OrderStatus.CLOSED, List.of(new PreOrderItem(
+            entityManager.find(OrderJpaEntity.class, orderId).getItems().get(0).getProduct().getId(),
+            1)), 0);
+        entityManager.clear();
+
+        assertThrows(PreconditionFailedException.class,
+            () -> orderService.updateOrder(orderId, preOrder, new ExpectedVersion(null, 1L)));
+        assertThrows(PreconditionFailedException.class,
+            () -> orderService.patchOrder(orderId, new OrderPatch(OrderStatus.CLOSED, false, null),
+                new ExpectedVersion(0L, 1L)));
+        entityManager.clear();
+        assertEquals(OrderStatus.OPEN, entityManager.find(OrderJpaEntity.class, orderId).getStatus());
+    }
+
+    @Test
+    void givenAnUpdateWrittenMeanwhile_whenPatchOrderIfMatch_thenFailThePrecondition() {
+        final var orderId = orderIds.get(0);
+        // read before the concurrent update, which the persistence context then does not see
+        entityManager.find(OrderJpaEntity.class, orderId).getItems().size();
+        entityManager.getEntityManager()
+            .createNativeQuery("UPDATE orders SET version = version + 1 WHERE id = :id")
+            .setParameter("id", orderId)
+            .executeUpdate();
+
+        assertThrows(PreconditionFailedException.class,
+            () -> orderService.patchOrder(orderId, new OrderPatch(OrderStatus.CLOSED, false, null),
+                new ExpectedVersion(null, 0L)));
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.order.catalog.management.service;
+
+import br.com.order.catalog.management.cache.ListingCache;
+import br.com.order.catalog.management.cache.ProductCache;
+import br.com.order.catalog.management.domain.Money;
+import br.com.order.catalog.management.domain.order.OrderStatus;
+import br.com.order.catalog.management.domain.product.ProductType;
+import br.com.order.catalog.management.entity.OrderItemJpaEntity;
+import br.com.order.catalog.management.entity.OrderJpaEntity;
+import br.com.order.catalog.management.entity.ProductJpaEntity;
+import br.com.order.catalog.management.mapper.OrderMapperImpl;
+import br.com.order.catalog.management.mapper.ProductMapperImpl;
+import br.com.order.catalog.management.pagination.CursorCodec;
+import br.com.order.catalog.management.specification.filter.OrderFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads orders sharing a few products, one transaction per window as separate requests would, and
+ * counts the statements reading the products table. The test is not transactional itself: a
+ * session only reads second-level cache entries put before it started.
+ */
+@DataJpaTest
+@Import({DefaultOrderService.class, DefaultProductService.class, ProductCache.class, ListingCache.class,
+    OrderMapperImpl.class, ProductMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.com.order.catalog.management.service.ProductSecondLevelCacheTest$ProductStatements"
+})
+class ProductSecondLevelCacheTest {
+
+    private static final int ORDERS = 100;
+
+    private static final int PRODUCTS = 20;
+
+    private static final int WINDOW = 20;
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Autowired
+    private DefaultOrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> persistOrders());
+        entityManagerFactory.getCache().evictAll();
+        ProductStatements.COUNT.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from OrderItemJpaEntity").executeUpdate();
+            entityManager.createQuery("delete from OrderJpaEntity").executeUpdate();
+            entityManager.createQuery("delete from ProductJpaEntity").executeUpdate();
+        });
+    }
+
+    private void persistOrders() {
+        final var products = new ArrayList<ProductJpaEntity>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            final var product = new ProductJpaEntity(UUID.randomUUID(), "product" + i,
+                Money.ofCents(1_000 + i), ProductType.PRODUCT, true);
+            product.setCreatedAt(CREATED_AT);
+            product.setUpdatedAt(CREATED_AT);
+            entityManager.persist(product);
+            products.add(product);
+        }
+        for (int i = 0; i < ORDERS; i++) {
+            final var order = new OrderJpaEntity();
+            order.setId(UUID.randomUUID());
+            order.setStatus(OrderStatus.OPEN);
+            order.setDiscount(0);
+            order.setTotal(Money.ofCents(2_000L + i));
+            order.setCreatedAt(CREATED_AT);
+            order.setUpdatedAt(CREATED_AT);
+            order.setItems(List.of(
+                new OrderItemJpaEntity(UUID.randomUUID(), order, products.get(i % PRODUCTS), 1),
+                new OrderItemJpaEntity(UUID.randomUUID(), order, products.get((i + 1) % PRODUCTS), 2)));
+            entityManager.persist(order);
+        }
+    }
+
+    @Test
+    void givenOrdersSharingProducts_whenReadInSeparateContexts_thenReadTheProductsTableAtMostOnce() {
+        var read = 0;
+        var cursor = CursorCodec.ORDERS.first("total");
+        while (true) {
+            final var window = orderService.scrollOrders(cursor.sort(), cursor.position(), WINDOW,
+                new OrderFilter());
+            window.forEach(order -> assertEquals(2, order.getItems().size()));
+            read += window.size();
+            final var page = CursorCodec.ORDERS.toPage(window, cursor.sort());
+            if (page.next() == null) {
+                break;
+            }
+            cursor = CursorCodec.ORDERS.decode(page.next());
+        }
+
+        assertEquals(ORDERS, read);
+        // the first window needs all of them and loads them in one batch
+        assertEquals(1, ProductStatements.COUNT.get());
+    }
+
+    public static class ProductStatements implements StatementInspector {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.toLowerCase(Locale.ROOT).matches("(?s).*\\bfrom products\\b.*")) {
+                COUNT.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+}